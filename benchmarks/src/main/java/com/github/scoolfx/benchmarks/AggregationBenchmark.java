@@ -0,0 +1,84 @@
+package com.github.scoolfx.benchmarks;
+
+import com.github.scoolfx.converter.BsPeriodCalendar;
+import com.github.scoolfx.converter.NepaliDateConverter;
+import com.github.scoolfx.converter.PeriodTotals;
+import com.github.scoolfx.model.BsPeriod;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Summing values per fiscal quarter over one million random records. {@code perRecord} is the
+ * approach {@link BsPeriodCalendar} replaces: converting each record and summing into a map.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AggregationBenchmark {
+
+    @Param({"1000000"})
+    public int records;
+
+    private NepaliDateConverter converter;
+    private BsPeriodCalendar calendar;
+    private long[] epochDays;
+    private long[] values;
+
+    @Setup
+    public void setUp() {
+        converter = new NepaliDateConverter();
+        calendar = new BsPeriodCalendar();
+        long[] days = Inputs.epochDays(converter, "random");
+        Random random = new Random(42);
+        epochDays = new long[records];
+        values = new long[records];
+        for (int i = 0; i < records; i++) {
+            epochDays[i] = days[i & Inputs.MASK] + random.nextInt(2);
+            values[i] = random.nextInt(100_000);
+        }
+    }
+
+    @Benchmark
+    public Map<Integer, Long> perRecord() {
+        Map<Integer, Long> sums = new HashMap<>();
+        for (int i = 0; i < epochDays.length; i++) {
+            int id = BsPeriod.FISCAL_QUARTER.idOf(converter.toBs(LocalDate.ofEpochDay(epochDays[i])));
+            sums.merge(id, values[i], Long::sum);
+        }
+        return sums;
+    }
+
+    @Benchmark
+    public PeriodTotals aggregate() {
+        return calendar.aggregate(BsPeriod.FISCAL_QUARTER, epochDays, values);
+    }
+
+    @Benchmark
+    public PeriodTotals aggregateParallel() {
+        return calendar.aggregateParallel(BsPeriod.FISCAL_QUARTER, epochDays, values);
+    }
+
+    @Benchmark
+    public PeriodTotals countStream() {
+        return calendar.aggregate(BsPeriod.FISCAL_QUARTER, LongStream.of(epochDays));
+    }
+}
@@ -0,0 +1,67 @@
+package com.github.scoolfx.benchmarks;
+
+import com.github.scoolfx.converter.BsDateCalculator;
+import com.github.scoolfx.converter.NepaliDateConverter;
+import com.github.scoolfx.model.BsDate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BsDateCalculator} against the round trip through {@link java.time.LocalDate} it replaces.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArithmeticBenchmark {
+
+    private NepaliDateConverter converter;
+    private BsDateCalculator calculator;
+    private BsDate[] dates;
+
+    @Setup
+    public void setUp() {
+        converter = new NepaliDateConverter();
+        calculator = new BsDateCalculator();
+        long min = converter.getMinSupportedAdDate().toEpochDay();
+        long[] epochDays = Inputs.epochDays(converter, "random");
+        for (int i = 0; i < epochDays.length; i++) {
+            // Leave room for the +400 days below
+            epochDays[i] = Math.max(min, epochDays[i] - 400);
+        }
+        dates = Inputs.bsDates(converter, epochDays);
+    }
+
+    @Benchmark
+    public BsDate plusDays(Cursor cursor) {
+        return calculator.plusDays(dates[cursor.next()], 400);
+    }
+
+    @Benchmark
+    public BsDate plusDaysViaLocalDate(Cursor cursor) {
+        return converter.toBs(converter.toAd(dates[cursor.next()]).plusDays(400));
+    }
+
+    @Benchmark
+    public BsDate plusMonths(Cursor cursor) {
+        return calculator.plusMonths(dates[cursor.next()], 7);
+    }
+
+    @Benchmark
+    public long daysBetween(Cursor cursor) {
+        int i = cursor.next();
+        return calculator.daysBetween(dates[i], dates[(i + 1) & Inputs.MASK]);
+    }
+}
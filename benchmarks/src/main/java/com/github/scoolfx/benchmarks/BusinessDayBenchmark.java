@@ -0,0 +1,112 @@
+package com.github.scoolfx.benchmarks;
+
+import com.github.scoolfx.business.BusinessCalendar;
+import com.github.scoolfx.business.Holiday;
+import com.github.scoolfx.business.HolidaySource;
+import com.github.scoolfx.converter.NepaliDateConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Working-day queries over {@code span} days with Saturdays and about fifteen holidays a year off.
+ * The {@code naive*} benchmarks walk day by day, checking the day of week and a {@code HashSet} of
+ * holiday dates, which is what {@link BusinessCalendar} replaces.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BusinessDayBenchmark {
+
+    @Param({"30", "365"})
+    public int span;
+
+    private BusinessCalendar calendar;
+    private Set<LocalDate> holidayDates;
+    private long[] starts;
+
+    @Setup
+    public void setUp() {
+        NepaliDateConverter converter = new NepaliDateConverter();
+        long min = converter.getMinSupportedAdDate().toEpochDay();
+        long max = converter.getMaxSupportedAdDate().toEpochDay();
+        Random random = new Random(42);
+        List<Holiday> holidays = new ArrayList<>();
+        holidayDates = new HashSet<>();
+        for (long day = min; day <= max; day++) {
+            if (random.nextInt(365) < 15) {
+                LocalDate date = LocalDate.ofEpochDay(day);
+                holidays.add(new Holiday(converter.toBs(date), "Holiday"));
+                holidayDates.add(date);
+            }
+        }
+        calendar = BusinessCalendar.load(HolidaySource.of(holidays));
+
+        // Leave room for span days, or span working days, in either direction
+        starts = new long[Inputs.SIZE];
+        for (int i = 0; i < Inputs.SIZE; i++) {
+            starts[i] = min + 2L * span + random.nextInt((int) (max - min - 4L * span));
+        }
+    }
+
+    @Benchmark
+    public boolean isWorkingDay(Cursor cursor) {
+        return calendar.isWorkingDay(starts[cursor.next()]);
+    }
+
+    @Benchmark
+    public long workingDaysBetween(Cursor cursor) {
+        long start = starts[cursor.next()];
+        return calendar.workingDaysBetween(start, start + span);
+    }
+
+    @Benchmark
+    public long naiveWorkingDaysBetween(Cursor cursor) {
+        long start = starts[cursor.next()];
+        long count = 0;
+        for (LocalDate date = LocalDate.ofEpochDay(start), end = date.plusDays(span);
+             date.isBefore(end); date = date.plusDays(1)) {
+            if (date.getDayOfWeek() != DayOfWeek.SATURDAY && !holidayDates.contains(date)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long addWorkingDays(Cursor cursor) {
+        return calendar.addWorkingDays(starts[cursor.next()], span);
+    }
+
+    @Benchmark
+    public long naiveAddWorkingDays(Cursor cursor) {
+        LocalDate date = LocalDate.ofEpochDay(starts[cursor.next()]);
+        for (int remaining = span; remaining > 0; ) {
+            date = date.plusDays(1);
+            if (date.getDayOfWeek() != DayOfWeek.SATURDAY && !holidayDates.contains(date)) {
+                remaining--;
+            }
+        }
+        return date.toEpochDay();
+    }
+}
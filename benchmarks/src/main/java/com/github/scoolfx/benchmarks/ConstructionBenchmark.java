@@ -0,0 +1,72 @@
+package com.github.scoolfx.benchmarks;
+
+import com.github.scoolfx.converter.CalendarData;
+import com.github.scoolfx.converter.CalendarDataSource;
+import com.github.scoolfx.converter.NepaliDateConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of getting a usable converter: loading and validating calendar data from the bundled
+ * binary resource or from JSON, and constructing converters once the data is shared.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConstructionBenchmark {
+
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        try (InputStream in = NepaliDateConverter.class.getResourceAsStream("/nepali-calendar-data.json")) {
+            json = in.readAllBytes();
+        }
+    }
+
+    /**
+     * First converter in a fresh JVM, including class loading and reading the bundled data.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(10)
+    public NepaliDateConverter coldConstructor() {
+        return new NepaliDateConverter();
+    }
+
+    /**
+     * Any later converter, which reuses the shared snapshot.
+     */
+    @Benchmark
+    public NepaliDateConverter constructor() {
+        return new NepaliDateConverter();
+    }
+
+    @Benchmark
+    public CalendarData loadBinary() {
+        return CalendarData.load(CalendarDataSource.classpath());
+    }
+
+    @Benchmark
+    public CalendarData loadJson() {
+        return CalendarData.load(CalendarDataSource.bytes(json));
+    }
+}
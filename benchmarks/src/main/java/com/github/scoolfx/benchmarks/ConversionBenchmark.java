@@ -0,0 +1,92 @@
+package com.github.scoolfx.benchmarks;
+
+import com.github.scoolfx.converter.NepaliDateConverter;
+import com.github.scoolfx.model.BsDate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single conversions in both directions, through the object and the packed API.
+ * The {@code Threads4} variants run the same work on four threads sharing one converter.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConversionBenchmark {
+
+    @Param({"random", "sequential", "boundary"})
+    public String inputs;
+
+    private NepaliDateConverter converter;
+    private LocalDate[] adDates;
+    private long[] epochDays;
+    private BsDate[] bsDates;
+    private int[] years;
+    private int[] months;
+    private int[] days;
+
+    @Setup
+    public void setUp() {
+        converter = new NepaliDateConverter();
+        epochDays = Inputs.epochDays(converter, inputs);
+        adDates = Inputs.adDates(epochDays);
+        bsDates = Inputs.bsDates(converter, epochDays);
+        years = new int[Inputs.SIZE];
+        months = new int[Inputs.SIZE];
+        days = new int[Inputs.SIZE];
+        for (int i = 0; i < Inputs.SIZE; i++) {
+            years[i] = bsDates[i].year();
+            months[i] = bsDates[i].month().getValue();
+            days[i] = bsDates[i].day();
+        }
+    }
+
+    @Benchmark
+    public BsDate toBs(Cursor cursor) {
+        return converter.toBs(adDates[cursor.next()]);
+    }
+
+    @Benchmark
+    public LocalDate toAd(Cursor cursor) {
+        return converter.toAd(bsDates[cursor.next()]);
+    }
+
+    @Benchmark
+    public int toBsPacked(Cursor cursor) {
+        return converter.toBsPacked(epochDays[cursor.next()]);
+    }
+
+    @Benchmark
+    public long toAdEpochDay(Cursor cursor) {
+        int i = cursor.next();
+        return converter.toAdEpochDay(years[i], months[i], days[i]);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public BsDate toBsThreads4(Cursor cursor) {
+        return converter.toBs(adDates[cursor.next()]);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public LocalDate toAdThreads4(Cursor cursor) {
+        return converter.toAd(bsDates[cursor.next()]);
+    }
+}
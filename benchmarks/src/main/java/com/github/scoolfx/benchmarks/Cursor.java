@@ -0,0 +1,17 @@
+package com.github.scoolfx.benchmarks;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Per-thread position in an input set, so threads do not contend on a shared counter.
+ */
+@State(Scope.Thread)
+public class Cursor {
+
+    private int index;
+
+    int next() {
+        return index = (index + 1) & Inputs.MASK;
+    }
+}
@@ -0,0 +1,111 @@
+package com.github.scoolfx.benchmarks;
+
+import com.github.scoolfx.converter.ConversionResult;
+import com.github.scoolfx.converter.NepaliDateConverter;
+import com.github.scoolfx.exception.NepaliCalendarException;
+import com.github.scoolfx.model.BsDate;
+import com.github.scoolfx.model.BsMonth;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of rejecting input: out-of-range A.D. dates and invalid B.S. dates, caught by the caller,
+ * with and without stack traces, and through the non-throwing {@code try*} API.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExceptionBenchmark {
+
+    private static final LocalDate OUT_OF_RANGE = LocalDate.of(1900, 1, 1);
+    private static final BsDate UNSUPPORTED_YEAR = new BsDate(2200, BsMonth.BAISAKH, 1);
+    private static final BsDate INVALID_DAY = new BsDate(2081, BsMonth.POUSH, 32);
+
+    @Param({"true", "false"})
+    public boolean stackTraces;
+
+    private NepaliDateConverter converter;
+
+    @Setup
+    public void setUp() {
+        converter = new NepaliDateConverter();
+        NepaliCalendarException.setStackTracesEnabled(stackTraces);
+    }
+
+    @TearDown
+    public void tearDown() {
+        NepaliCalendarException.setStackTracesEnabled(true);
+    }
+
+    @Benchmark
+    public Object toBsOutOfRange() {
+        try {
+            return converter.toBs(OUT_OF_RANGE);
+        } catch (NepaliCalendarException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object toBsPackedOutOfRange() {
+        try {
+            return converter.toBsPacked(OUT_OF_RANGE.toEpochDay());
+        } catch (NepaliCalendarException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object toAdUnsupportedYear() {
+        try {
+            return converter.toAd(UNSUPPORTED_YEAR);
+        } catch (NepaliCalendarException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object toAdInvalidDay() {
+        try {
+            return converter.toAd(INVALID_DAY);
+        } catch (NepaliCalendarException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public ConversionResult<BsDate> tryToBsOutOfRange() {
+        return converter.tryToBs(OUT_OF_RANGE);
+    }
+
+    @Benchmark
+    public int tryToBsPackedOutOfRange() {
+        return converter.tryToBsPacked(OUT_OF_RANGE.toEpochDay());
+    }
+
+    @Benchmark
+    public ConversionResult<LocalDate> tryToAdInvalidDay() {
+        return converter.tryToAd(INVALID_DAY);
+    }
+
+    @Benchmark
+    public boolean isValidInvalidDay() {
+        return converter.isValid(INVALID_DAY);
+    }
+}
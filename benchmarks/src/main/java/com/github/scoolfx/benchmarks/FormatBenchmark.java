@@ -0,0 +1,101 @@
+package com.github.scoolfx.benchmarks;
+
+import com.github.scoolfx.converter.NepaliDateConverter;
+import com.github.scoolfx.format.BsDateFormatter;
+import com.github.scoolfx.model.BsDate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Formatting and parsing, with {@code String.format} as the baseline {@code BsDate.format()} used to have.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FormatBenchmark {
+
+    private static final BsDateFormatter NAMED = BsDateFormatter.ofPattern("d MMMM yyyy");
+    private static final BsDateFormatter DEVANAGARI = BsDateFormatter.ISO.withDevanagariDigits();
+
+    private BsDate[] dates;
+    private String[] texts;
+    private byte[][] bytes;
+
+    @Setup
+    public void setUp() {
+        NepaliDateConverter converter = new NepaliDateConverter();
+        dates = Inputs.bsDates(converter, Inputs.epochDays(converter, "random"));
+        texts = new String[dates.length];
+        bytes = new byte[dates.length][];
+        for (int i = 0; i < dates.length; i++) {
+            texts[i] = dates[i].format();
+            bytes[i] = texts[i].getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    /**
+     * Per-thread output buffers.
+     */
+    @State(Scope.Thread)
+    public static class Buffers {
+        final StringBuilder builder = new StringBuilder(32);
+        final byte[] bytes = new byte[64];
+    }
+
+    @Benchmark
+    public String stringFormat(Cursor cursor) {
+        BsDate date = dates[cursor.next()];
+        return String.format("%04d-%02d-%02d", date.year(), date.month().getValue(), date.day());
+    }
+
+    @Benchmark
+    public String format(Cursor cursor) {
+        return dates[cursor.next()].format();
+    }
+
+    @Benchmark
+    public String formatMonthName(Cursor cursor) {
+        return NAMED.format(dates[cursor.next()]);
+    }
+
+    @Benchmark
+    public int formatToBuilder(Cursor cursor, Buffers buffers) {
+        buffers.builder.setLength(0);
+        return BsDateFormatter.ISO.formatTo(dates[cursor.next()], buffers.builder).length();
+    }
+
+    @Benchmark
+    public int formatToBytes(Cursor cursor, Buffers buffers) {
+        return BsDateFormatter.ISO.formatTo(dates[cursor.next()], buffers.bytes, 0);
+    }
+
+    @Benchmark
+    public int formatDevanagariToBytes(Cursor cursor, Buffers buffers) {
+        return DEVANAGARI.formatTo(dates[cursor.next()], buffers.bytes, 0);
+    }
+
+    @Benchmark
+    public BsDate parse(Cursor cursor) {
+        return BsDateFormatter.ISO.parse(texts[cursor.next()]);
+    }
+
+    @Benchmark
+    public int parsePackedBytes(Cursor cursor) {
+        byte[] text = bytes[cursor.next()];
+        return BsDateFormatter.ISO.parsePacked(text, 0, text.length);
+    }
+}
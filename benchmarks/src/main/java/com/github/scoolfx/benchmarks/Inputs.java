@@ -0,0 +1,78 @@
+package com.github.scoolfx.benchmarks;
+
+import com.github.scoolfx.converter.NepaliDateConverter;
+import com.github.scoolfx.model.BsDate;
+
+import java.time.LocalDate;
+import java.util.Random;
+
+/**
+ * Input sets shared by the benchmarks. Every set has {@link #SIZE} entries so benchmarks can
+ * cycle through them with a mask.
+ */
+final class Inputs {
+
+    static final int SIZE = 1 << 12;
+    static final int MASK = SIZE - 1;
+
+    private Inputs() {
+    }
+
+    /**
+     * Returns A.D. epoch days inside the supported range laid out according to {@code pattern}:
+     * <ul>
+     *     <li>{@code random} - uniformly distributed over the whole range</li>
+     *     <li>{@code sequential} - consecutive days, as when walking a ledger</li>
+     *     <li>{@code boundary} - first and last days of B.S. months and of the supported range</li>
+     * </ul>
+     */
+    static long[] epochDays(NepaliDateConverter converter, String pattern) {
+        long min = converter.getMinSupportedAdDate().toEpochDay();
+        long max = converter.getMaxSupportedAdDate().toEpochDay();
+        Random random = new Random(42);
+        long[] days = new long[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            days[i] = switch (pattern) {
+                case "random" -> min + (long) (random.nextDouble() * (max - min + 1));
+                case "sequential" -> min + (max - min) / 2 + i;
+                case "boundary" -> boundary(converter, random, i, min, max);
+                default -> throw new IllegalArgumentException("Unknown input pattern: " + pattern);
+            };
+        }
+        return days;
+    }
+
+    private static long boundary(NepaliDateConverter converter, Random random, int i, long min, long max) {
+        return switch (i & 7) {
+            case 0 -> min;
+            case 1 -> max;
+            default -> {
+                BsDate start = converter.toBs(LocalDate.ofEpochDay(min));
+                int year = start.year() + 1 + random.nextInt(converter.toBs(LocalDate.ofEpochDay(max)).year()
+                        - start.year() - 1);
+                long monthStart = converter.toAdEpochDay(year, 1 + random.nextInt(12), 1);
+                yield (i & 1) == 0 ? monthStart : monthStart - 1;
+            }
+        };
+    }
+
+    static LocalDate[] adDates(long[] epochDays) {
+        LocalDate[] dates = new LocalDate[epochDays.length];
+        for (int i = 0; i < dates.length; i++) {
+            dates[i] = LocalDate.ofEpochDay(epochDays[i]);
+        }
+        return dates;
+    }
+
+    /**
+     * Returns fresh (non-shared) {@link BsDate} instances for the given days.
+     */
+    static BsDate[] bsDates(NepaliDateConverter converter, long[] epochDays) {
+        BsDate[] dates = new BsDate[epochDays.length];
+        for (int i = 0; i < dates.length; i++) {
+            BsDate date = converter.toBs(LocalDate.ofEpochDay(epochDays[i]));
+            dates[i] = new BsDate(date.year(), date.month(), date.day());
+        }
+        return dates;
+    }
+}
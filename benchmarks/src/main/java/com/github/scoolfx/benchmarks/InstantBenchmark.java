@@ -0,0 +1,85 @@
+package com.github.scoolfx.benchmarks;
+
+import com.github.scoolfx.converter.NepaliDateConverter;
+import com.github.scoolfx.model.BsDate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * B.S. dates of event timestamps in Nepal local time. {@code viaZonedDateTime} is the
+ * {@code Instant -> ZonedDateTime -> LocalDate -> toBs} chain the epoch-millisecond API replaces;
+ * {@code batch} converts all {@value Inputs#SIZE} timestamps per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InstantBenchmark {
+
+    private static final ZoneId KATHMANDU = ZoneId.of("Asia/Kathmandu");
+
+    private NepaliDateConverter converter;
+    private long[] epochMillis;
+    private Instant[] instants;
+    private int[] years;
+    private int[] months;
+    private int[] days;
+    private boolean[] errors;
+
+    @Setup
+    public void setUp() {
+        converter = new NepaliDateConverter();
+        long[] epochDays = Inputs.epochDays(converter, "random");
+        Random random = new Random(42);
+        epochMillis = new long[Inputs.SIZE];
+        instants = new Instant[Inputs.SIZE];
+        for (int i = 0; i < Inputs.SIZE; i++) {
+            epochMillis[i] = epochDays[i] * 86_400_000L + random.nextInt(86_400_000);
+            instants[i] = Instant.ofEpochMilli(epochMillis[i]);
+        }
+        years = new int[Inputs.SIZE];
+        months = new int[Inputs.SIZE];
+        days = new int[Inputs.SIZE];
+        errors = new boolean[Inputs.SIZE];
+    }
+
+    @Benchmark
+    public BsDate viaZonedDateTime(Cursor cursor) {
+        return converter.toBs(Instant.ofEpochMilli(epochMillis[cursor.next()]).atZone(KATHMANDU).toLocalDate());
+    }
+
+    @Benchmark
+    public BsDate toBsFromEpochMilli(Cursor cursor) {
+        return converter.toBsFromEpochMilli(epochMillis[cursor.next()]);
+    }
+
+    @Benchmark
+    public int toBsPackedFromEpochMilli(Cursor cursor) {
+        return converter.toBsPackedFromEpochMilli(epochMillis[cursor.next()]);
+    }
+
+    @Benchmark
+    public BsDate toBsInstant(Cursor cursor) {
+        return converter.toBs(instants[cursor.next()]);
+    }
+
+    @Benchmark
+    public int batch() {
+        return converter.toBsFromEpochMilli(epochMillis, years, months, days, errors);
+    }
+}
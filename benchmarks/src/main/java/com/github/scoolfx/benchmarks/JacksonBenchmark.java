@@ -0,0 +1,84 @@
+package com.github.scoolfx.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.scoolfx.converter.NepaliDateConverter;
+import com.github.scoolfx.jackson.BsDateModule;
+import com.github.scoolfx.model.BsDate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writing and reading a small payload with two {@link BsDate} fields. {@code record} is Jackson's
+ * default handling of the {@code BsDate} record ({@code {"year":..,"month":"..","day":..}});
+ * {@code string} and {@code packed} use {@link BsDateModule}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JacksonBenchmark {
+
+    public record Payload(long id, BsDate issued, BsDate due) {
+    }
+
+    @Param({"record", "string", "packed"})
+    public String mapping;
+
+    private Payload[] payloads;
+    private byte[][] json;
+    private ObjectWriter writer;
+    private ObjectReader reader;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        ObjectMapper mapper = switch (mapping) {
+            case "record" -> new ObjectMapper();
+            case "string" -> new ObjectMapper().registerModule(new BsDateModule());
+            case "packed" -> new ObjectMapper().registerModule(new BsDateModule(BsDateModule.Shape.PACKED));
+            default -> throw new IllegalArgumentException("Unknown mapping: " + mapping);
+        };
+        writer = mapper.writerFor(Payload.class);
+        reader = mapper.readerFor(Payload.class);
+
+        BsDate[] dates = Inputs.bsDates(new NepaliDateConverter(),
+                Inputs.epochDays(new NepaliDateConverter(), "random"));
+        payloads = new Payload[dates.length];
+        json = new byte[dates.length][];
+        for (int i = 0; i < dates.length; i++) {
+            payloads[i] = new Payload(i, dates[i], dates[(i + 1) & Inputs.MASK]);
+            json[i] = writer.writeValueAsBytes(payloads[i]);
+        }
+    }
+
+    @Benchmark
+    public byte[] write(Cursor cursor) throws JsonProcessingException {
+        return writer.writeValueAsBytes(payloads[cursor.next()]);
+    }
+
+    @Benchmark
+    public String writeString(Cursor cursor) throws JsonProcessingException {
+        return writer.writeValueAsString(payloads[cursor.next()]);
+    }
+
+    @Benchmark
+    public Payload read(Cursor cursor) throws IOException {
+        return reader.readValue(json[cursor.next()]);
+    }
+}
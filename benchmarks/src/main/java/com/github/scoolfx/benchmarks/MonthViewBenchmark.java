@@ -0,0 +1,82 @@
+package com.github.scoolfx.benchmarks;
+
+import com.github.scoolfx.converter.BsMonthView;
+import com.github.scoolfx.converter.NepaliDateConverter;
+import com.github.scoolfx.model.BsDate;
+import com.github.scoolfx.model.BsMonth;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rendering a month grid: every cell's B.S. and A.D. date plus the weekday of day 1, for a random
+ * supported month per operation. {@code rebuild} is the {@code toAd} for day 1 plus {@code toBs}
+ * per cell approach {@link BsMonthView} replaces.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MonthViewBenchmark {
+
+    private NepaliDateConverter converter;
+    private int[] years;
+    private BsMonth[] months;
+
+    @Setup
+    public void setUp() {
+        converter = new NepaliDateConverter();
+        int minYear = converter.getCalendarData().getMinYear();
+        int maxYear = converter.getCalendarData().getMaxYear();
+        Random random = new Random(42);
+        years = new int[Inputs.SIZE];
+        months = new BsMonth[Inputs.SIZE];
+        for (int i = 0; i < Inputs.SIZE; i++) {
+            years[i] = minYear + random.nextInt(maxYear - minYear + 1);
+            months[i] = BsMonth.fromValue(1 + random.nextInt(12));
+        }
+    }
+
+    @Benchmark
+    public void rebuild(Cursor cursor, Blackhole blackhole) {
+        int i = cursor.next();
+        LocalDate first = converter.toAd(new BsDate(years[i], months[i], 1));
+        blackhole.consume(first.getDayOfWeek());
+        LocalDate adDate = first;
+        BsDate bsDate = converter.toBs(adDate);
+        while (bsDate.month() == months[i]) {
+            blackhole.consume(adDate);
+            blackhole.consume(bsDate);
+            adDate = adDate.plusDays(1);
+            if (!converter.isSupported(adDate)) {
+                break;
+            }
+            bsDate = converter.toBs(adDate);
+        }
+    }
+
+    @Benchmark
+    public void monthView(Cursor cursor, Blackhole blackhole) {
+        int i = cursor.next();
+        BsMonthView view = converter.monthView(years[i], months[i]);
+        blackhole.consume(view.getFirstDayOfWeek());
+        for (int day = 1; day <= view.getLength(); day++) {
+            blackhole.consume(view.getAdDate(day));
+            blackhole.consume(view.getBsDate(day));
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.github.scoolfx.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.scoolfx.converter.CalendarData;
+import com.github.scoolfx.converter.NepaliDateConverter;
+import com.github.scoolfx.exception.NepaliCalendarException;
+import com.github.scoolfx.format.BsDateFormatter;
+import com.github.scoolfx.model.PackedBsDate;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Converts dates in one {@link Direction}: a single date from the query string on {@code GET}, or a
+ * JSON array of dates on {@code POST}.
+ * <p>
+ * Batches are read and answered as streams: each date is parsed from the parser's character buffer,
+ * converted through the packed, non-throwing converter API and written to the response before the next
+ * one is read, so memory use does not grow with the batch size. Dates that cannot be converted get an
+ * {@code error} in their result entry instead of failing the batch. Once the response has started, a
+ * syntax error or early end in the request body can no longer change the status, so it is reported by a
+ * final {@code {"error":"INVALID_REQUEST"}} element after the dates converted so far.
+ */
+final class ConversionHandler implements HttpHandler {
+
+    static final String JSON_TYPE = "application/json";
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    /**
+     * Error names, indexed by {@code -(result + 1)} for the negative results of {@link #convert}.
+     */
+    private static final String[] ERRORS = {
+            "INVALID_INPUT",
+            NepaliCalendarException.ErrorCode.OUT_OF_RANGE.name(),
+            NepaliCalendarException.ErrorCode.INVALID_BS_DATE.name()
+    };
+    private static final int INVALID_INPUT = -1;
+    private static final int OUT_OF_RANGE = -2;
+    private static final int INVALID_BS_DATE = -3;
+
+    private static final int MAX_LENGTH = Math.max(IsoDates.LENGTH, BsDateFormatter.ISO.maxLength());
+
+    /**
+     * The endpoints, named after the calendar they convert to.
+     */
+    enum Direction {
+        TO_BS("/v1/bs", "ad", "bs"),
+        TO_AD("/v1/ad", "bs", "ad");
+
+        final String path;
+        final String from;
+        final String to;
+
+        Direction(String path, String from, String to) {
+            this.path = path;
+            this.from = from;
+            this.to = to;
+        }
+    }
+
+    private final NepaliDateConverter converter;
+    private final Direction direction;
+
+    ConversionHandler(NepaliDateConverter converter, Direction direction) {
+        this.converter = converter;
+        this.direction = direction;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!exchange.getRequestURI().getPath().equals(direction.path)) {
+                sendJson(exchange, 404, error("NOT_FOUND", "No endpoint at " + exchange.getRequestURI().getPath()));
+                return;
+            }
+            switch (exchange.getRequestMethod()) {
+                case "GET" -> single(exchange);
+                case "POST" -> batch(exchange);
+                default -> {
+                    exchange.getResponseHeaders().set("Allow", "GET, POST");
+                    sendJson(exchange, 405, error("METHOD_NOT_ALLOWED", "Use GET or POST"));
+                }
+            }
+        }
+    }
+
+    private void single(HttpExchange exchange) throws IOException {
+        String input = queryParameter(exchange.getRequestURI().getRawQuery(), direction.from);
+        if (input == null) {
+            sendJson(exchange, 400, error("MISSING_PARAMETER", "Query parameter '" + direction.from + "' is required"));
+            return;
+        }
+        char[] chars = input.toCharArray();
+        char[] output = new char[MAX_LENGTH];
+        int result = convert(chars, 0, chars.length, output);
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream(64);
+        try (JsonGenerator json = JSON.createGenerator(body)) {
+            json.writeStartObject();
+            json.writeStringField(direction.from, input);
+            writeResult(json, result, output);
+            json.writeEndObject();
+        }
+        sendJson(exchange, result >= 0 ? 200 : 400, body.toByteArray());
+    }
+
+    private void batch(HttpExchange exchange) throws IOException {
+        try (JsonParser parser = JSON.createParser(exchange.getRequestBody())) {
+            JsonToken token;
+            try {
+                token = parser.nextToken();
+            } catch (JsonParseException e) {
+                token = null;
+            }
+            if (token != JsonToken.START_ARRAY) {
+                sendJson(exchange, 400, error("INVALID_REQUEST", "Expected a JSON array of dates"));
+                return;
+            }
+
+            exchange.getResponseHeaders().set("Content-Type", JSON_TYPE);
+            exchange.sendResponseHeaders(200, 0);
+            char[] output = new char[MAX_LENGTH];
+            try (JsonGenerator json = JSON.createGenerator(exchange.getResponseBody())) {
+                json.writeStartArray();
+                try {
+                    while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                        if (token == null) {
+                            throw new JsonParseException(parser, "Unexpected end of the date array");
+                        }
+                        // Read the whole element before writing, so a parse error never leaves an entry half-written
+                        if (token == JsonToken.VALUE_STRING) {
+                            char[] chars = parser.getTextCharacters();
+                            int from = parser.getTextOffset();
+                            int to = from + parser.getTextLength();
+                            json.writeStartObject();
+                            json.writeFieldName(direction.from);
+                            json.writeString(chars, from, to - from);
+                            writeResult(json, convert(chars, from, to, output), output);
+                        } else {
+                            parser.skipChildren();
+                            json.writeStartObject();
+                            json.writeStringField("error", ERRORS[-INVALID_INPUT - 1]);
+                        }
+                        json.writeEndObject();
+                    }
+                } catch (JsonParseException e) {
+                    // The generator would otherwise close the array on its own and the batch would look complete
+                    json.writeStartObject();
+                    json.writeStringField("error", "INVALID_REQUEST");
+                    json.writeEndObject();
+                }
+                json.writeEndArray();
+            }
+        }
+    }
+
+    /**
+     * Converts {@code chars[from, to)} into {@code output}.
+     *
+     * @return The length of the converted date, or a negative error constant.
+     */
+    private int convert(char[] chars, int from, int to, char[] output) {
+        if (direction == Direction.TO_BS) {
+            long epochDay = IsoDates.parseEpochDay(chars, from, to);
+            if (epochDay == IsoDates.INVALID) {
+                return INVALID_INPUT;
+            }
+            int packed = converter.tryToBsPacked(epochDay);
+            if (packed == PackedBsDate.INVALID) {
+                return OUT_OF_RANGE;
+            }
+            return BsDateFormatter.ISO.formatPackedTo(packed, output, 0);
+        }
+
+        int packed = BsDateFormatter.ISO.tryParsePacked(chars, from, to);
+        if (packed == PackedBsDate.INVALID) {
+            return INVALID_INPUT;
+        }
+        int year = PackedBsDate.year(packed);
+        long epochDay = converter.tryToAdEpochDay(year, PackedBsDate.month(packed), PackedBsDate.day(packed));
+        if (epochDay == NepaliDateConverter.INVALID_EPOCH_DAY) {
+            CalendarData data = converter.getCalendarData();
+            return year >= data.getMinYear() && year <= data.getMaxYear() ? INVALID_BS_DATE : OUT_OF_RANGE;
+        }
+        return IsoDates.format(epochDay, output, 0);
+    }
+
+    private void writeResult(JsonGenerator json, int result, char[] output) throws IOException {
+        if (result >= 0) {
+            json.writeFieldName(direction.to);
+            json.writeString(output, 0, result);
+        } else {
+            json.writeStringField("error", ERRORS[-result - 1]);
+        }
+    }
+
+    /**
+     * Returns the decoded value of the first {@code name} parameter, or {@code null} if there is none.
+     */
+    static String queryParameter(String rawQuery, String name) {
+        if (rawQuery == null) {
+            return null;
+        }
+        for (String parameter : rawQuery.split("&")) {
+            int equals = parameter.indexOf('=');
+            if (equals == name.length() && parameter.startsWith(name)) {
+                return URLDecoder.decode(parameter.substring(equals + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    static byte[] error(String code, String message) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream(96);
+        try (JsonGenerator json = JSON.createGenerator(body)) {
+            json.writeStartObject();
+            json.writeStringField("error", code);
+            json.writeStringField("message", message);
+            json.writeEndObject();
+        }
+        return body.toByteArray();
+    }
+
+    static void sendJson(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", JSON_TYPE);
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.github.scoolfx.service;
+
+import com.github.scoolfx.converter.CalendarData;
+import com.github.scoolfx.converter.NepaliDateConverter;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * An HTTP service for callers that cannot embed the SDK, on the JDK's built-in {@link HttpServer}
+ * with one virtual thread per request.
+ * <ul>
+ *     <li>{@code GET /v1/bs?ad=2024-04-13} - {@code {"ad":"2024-04-13","bs":"2081-01-01"}}</li>
+ *     <li>{@code GET /v1/ad?bs=2081-01-01} - {@code {"bs":"2081-01-01","ad":"2024-04-13"}}</li>
+ *     <li>{@code POST /v1/bs} and {@code POST /v1/ad} with a JSON array of dates - a streamed JSON array
+ *     with one such object per date, in request order</li>
+ *     <li>{@code GET /health} - the supported range of the calendar data in use</li>
+ * </ul>
+ * A date that cannot be converted gets {@code "error"} instead of the converted date: {@code INVALID_INPUT},
+ * {@code OUT_OF_RANGE} or {@code INVALID_BS_DATE}. Single conversions then answer with status 400.
+ * <p>
+ * {@link #main(String[])} serves a converter that follows {@link com.github.scoolfx.converter.CalendarDataRegistry},
+ * so calendar data published at runtime is served without a restart.
+ */
+public final class ConversionServer implements AutoCloseable {
+
+    public static final int DEFAULT_PORT = 8080;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private ConversionServer(HttpServer server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    /**
+     * Starts a server on the given address; port {@code 0} picks a free port.
+     *
+     * @throws IOException if the address cannot be bound.
+     */
+    public static ConversionServer start(InetSocketAddress address, NepaliDateConverter converter) throws IOException {
+        HttpServer server = HttpServer.create(address, 0);
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        for (ConversionHandler.Direction direction : ConversionHandler.Direction.values()) {
+            server.createContext(direction.path, new ConversionHandler(converter, direction));
+        }
+        server.createContext("/health", exchange -> health(exchange, converter));
+        server.start();
+        return new ConversionServer(server, executor);
+    }
+
+    /**
+     * Returns the bound address, with the actual port if port {@code 0} was requested.
+     */
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    /**
+     * Returns {@code http://localhost:<port>}.
+     */
+    public URI getUri() {
+        return URI.create("http://localhost:" + getAddress().getPort());
+    }
+
+    /**
+     * Stops accepting requests and waits for the ones in progress to finish.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    private static void health(HttpExchange exchange, NepaliDateConverter converter) throws IOException {
+        try (exchange) {
+            CalendarData data = converter.getCalendarData();
+            String body = "{\"status\":\"UP\",\"minYear\":" + data.getMinYear() + ",\"maxYear\":" + data.getMaxYear()
+                    + ",\"minAdDate\":\"" + data.getMinSupportedAdDate()
+                    + "\",\"maxAdDate\":\"" + data.getMaxSupportedAdDate() + "\"}";
+            ConversionHandler.sendJson(exchange, 200, body.getBytes(StandardCharsets.US_ASCII));
+        }
+    }
+
+    /**
+     * Runs the service until the JVM is stopped.
+     *
+     * @param args Optionally the port; defaults to the {@code PORT} environment variable, then {@value #DEFAULT_PORT}.
+     */
+    public static void main(String[] args) throws IOException {
+        enableNoDelay();
+        String port = args.length > 0 ? args[0] : System.getenv("PORT");
+        ConversionServer server = start(
+                new InetSocketAddress(port == null ? DEFAULT_PORT : Integer.parseInt(port)), new NepaliDateConverter());
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+        System.out.println("Nepali calendar service listening on port " + server.getAddress().getPort());
+    }
+
+    /**
+     * Turns on {@code sun.net.httpserver.nodelay} unless the operator set it with {@code -D}.
+     * <p>
+     * The JDK server writes headers and body separately; with Nagle's algorithm on, every small
+     * response waits for the client's delayed ACK (~40 ms). The property is JVM-global and read once,
+     * when the first server is created, so only the standalone entry points set it; applications
+     * embedding {@link #start} should pass {@code -Dsun.net.httpserver.nodelay=true} themselves.
+     */
+    static void enableNoDelay() {
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.github.scoolfx.service;
+
+/**
+ * Allocation-free reading and writing of A.D. dates as {@code yyyy-MM-dd}, for the character buffers
+ * of the JSON parser and generator.
+ * <p>
+ * Dates are computed with plain integer arithmetic, the same as {@code io.DateColumnConverter} uses for
+ * its byte buffers, so no {@link java.time.LocalDate} is created per date.
+ */
+final class IsoDates {
+
+    /**
+     * Returned by {@link #parseEpochDay(char[], int, int)} for malformed or nonexistent dates.
+     */
+    static final long INVALID = Long.MIN_VALUE;
+
+    static final int LENGTH = 10;
+
+    private static final long DAYS_0000_TO_1970 = 719528L;
+    private static final int DAYS_PER_400_YEARS = 146097;
+
+    private IsoDates() {
+    }
+
+    /**
+     * Parses {@code chars[from, to)} as {@code yyyy-MM-dd}.
+     *
+     * @return The epoch day, or {@link #INVALID}.
+     */
+    static long parseEpochDay(char[] chars, int from, int to) {
+        if (to - from != LENGTH || chars[from + 4] != '-' || chars[from + 7] != '-') {
+            return INVALID;
+        }
+        int year = digits(chars, from, 4);
+        int month = digits(chars, from + 5, 2);
+        int day = digits(chars, from + 8, 2);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+            return INVALID;
+        }
+        return epochDay(year, month, day);
+    }
+
+    /**
+     * Writes the given epoch day, whose year must have four digits, as {@code yyyy-MM-dd}.
+     *
+     * @return The offset just after the last character written.
+     */
+    static int format(long epochDay, char[] buffer, int offset) {
+        // Same arithmetic as LocalDate.ofEpochDay for years from 1 on: count from 0000-03-01 so the
+        // leap day ends the year
+        long zeroDay = epochDay + DAYS_0000_TO_1970 - 60;
+        long year = (400 * zeroDay + 591) / DAYS_PER_400_YEARS;
+        long dayOfYear = zeroDay - daysBeforeYear(year);
+        if (dayOfYear < 0) {
+            year--;
+            dayOfYear = zeroDay - daysBeforeYear(year);
+        }
+        int marchMonth = (int) (dayOfYear * 5 + 2) / 153;
+        int month = (marchMonth + 2) % 12 + 1;
+        int day = (int) dayOfYear - (marchMonth * 306 + 5) / 10 + 1;
+        year += marchMonth / 10;
+
+        writeDigits(buffer, offset, (int) year, 4);
+        buffer[offset + 4] = '-';
+        writeDigits(buffer, offset + 5, month, 2);
+        buffer[offset + 7] = '-';
+        writeDigits(buffer, offset + 8, day, 2);
+        return offset + LENGTH;
+    }
+
+    /**
+     * Returns the value of {@code count} ASCII digits, or {@code -1} if any character is not a digit.
+     */
+    private static int digits(char[] chars, int from, int count) {
+        int value = 0;
+        for (int i = from; i < from + count; i++) {
+            int digit = chars[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static void writeDigits(char[] buffer, int offset, int value, int count) {
+        for (int i = offset + count - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    private static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> isLeapYear(year) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    /**
+     * Same arithmetic as {@link java.time.LocalDate#toEpochDay()} for non-negative, already validated dates.
+     */
+    private static long epochDay(int year, int month, int day) {
+        long total = 365L * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (!isLeapYear(year)) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * Returns the number of days from 0000-03-01 to the first of March of the given year.
+     */
+    private static long daysBeforeYear(long year) {
+        return 365 * year + year / 4 - year / 100 + year / 400;
+    }
+}
@@ -0,0 +1,246 @@
+package com.github.scoolfx.service;
+
+import com.github.scoolfx.converter.NepaliDateConverter;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * A closed-loop load generator for {@link ConversionServer}: {@code concurrency} virtual threads each send
+ * A.D. to B.S. conversions back to back for the warmup and then the measured duration, and the result
+ * reports throughput and latency percentiles of the measured part.
+ * <pre>
+ * java -cp target/service.jar com.github.scoolfx.service.LoadTest [--url http://host:port]
+ *      [--concurrency 64] [--warmup 5] [--duration 10] [--batch 0]
+ * </pre>
+ * Without {@code --url} a server is started in-process on a free localhost port. {@code --batch 0} sends
+ * single {@code GET} conversions; a positive size sends {@code POST} batches of that many dates.
+ * Durations are in seconds.
+ */
+public final class LoadTest {
+
+    private static final int DISTINCT_REQUESTS = 1024;
+
+    /**
+     * How to run a load test.
+     *
+     * @param target      The server to load, or {@code null} to start one in-process.
+     * @param concurrency The number of requests in flight.
+     * @param batchSize   Dates per {@code POST} request, or {@code 0} for single {@code GET} conversions.
+     */
+    public record Options(URI target, int concurrency, Duration warmup, Duration duration, int batchSize) {
+
+        public Options {
+            if (concurrency < 1 || batchSize < 0 || warmup.isNegative() || duration.isNegative() || duration.isZero()) {
+                throw new IllegalArgumentException("Invalid load test options");
+            }
+        }
+
+        static Options parse(String[] args) {
+            URI target = null;
+            int concurrency = 64;
+            Duration warmup = Duration.ofSeconds(5);
+            Duration duration = Duration.ofSeconds(10);
+            int batchSize = 0;
+            for (int i = 0; i + 1 < args.length; i += 2) {
+                String value = args[i + 1];
+                switch (args[i]) {
+                    case "--url" -> target = URI.create(value);
+                    case "--concurrency" -> concurrency = Integer.parseInt(value);
+                    case "--warmup" -> warmup = Duration.ofSeconds(Long.parseLong(value));
+                    case "--duration" -> duration = Duration.ofSeconds(Long.parseLong(value));
+                    case "--batch" -> batchSize = Integer.parseInt(value);
+                    default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+                }
+            }
+            if (args.length % 2 != 0) {
+                throw new IllegalArgumentException("Missing value for " + args[args.length - 1]);
+            }
+            return new Options(target, concurrency, warmup, duration, batchSize);
+        }
+    }
+
+    /**
+     * The measured part of a load test. Latencies are in nanoseconds; failed requests are counted in
+     * {@code errors} and not in the latencies.
+     */
+    public record Result(long requests, long errors, long dates, Duration duration,
+                         long p50Nanos, long p99Nanos, long maxNanos) {
+
+        public double requestsPerSecond() {
+            return requests * 1e9 / duration.toNanos();
+        }
+
+        public double datesPerSecond() {
+            return dates * 1e9 / duration.toNanos();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d requests (%d errors) in %.1f s: %.0f requests/s, %.0f dates/s, "
+                            + "latency p50 %.3f ms, p99 %.3f ms, max %.3f ms",
+                    requests, errors, duration.toNanos() / 1e9, requestsPerSecond(), datesPerSecond(),
+                    p50Nanos / 1e6, p99Nanos / 1e6, maxNanos / 1e6);
+        }
+    }
+
+    private LoadTest() {
+    }
+
+    /**
+     * Runs a load test and returns its measured part.
+     *
+     * @throws IOException if an in-process server cannot be started.
+     */
+    public static Result run(Options options) throws IOException, InterruptedException {
+        NepaliDateConverter converter = new NepaliDateConverter();
+        if (options.target() != null) {
+            return run(options, options.target(), converter);
+        }
+        try (ConversionServer server = ConversionServer.start(
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), converter)) {
+            return run(options, server.getUri(), converter);
+        }
+    }
+
+    private static Result run(Options options, URI target, NepaliDateConverter converter) throws InterruptedException {
+        HttpRequest[] requests = requests(options, target, converter);
+        int datesPerRequest = Math.max(1, options.batchSize());
+        long measureStart = System.nanoTime() + options.warmup().toNanos();
+        long end = measureStart + options.duration().toNanos();
+
+        List<Future<Worker>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .executor(executor)
+                     .build()) {
+            for (int i = 0; i < options.concurrency(); i++) {
+                Worker worker = new Worker(client, requests, i, measureStart, end);
+                futures.add(executor.submit(() -> {
+                    worker.run();
+                    return worker;
+                }));
+            }
+            long errors = 0;
+            long[] latencies = new long[0];
+            for (Future<Worker> future : futures) {
+                Worker worker = future.get();
+                errors += worker.errors;
+                int offset = latencies.length;
+                latencies = Arrays.copyOf(latencies, offset + worker.count);
+                System.arraycopy(worker.latencies, 0, latencies, offset, worker.count);
+            }
+            Arrays.sort(latencies);
+            long requestCount = latencies.length + errors;
+            return new Result(requestCount, errors, latencies.length * (long) datesPerRequest,
+                    options.duration(), percentile(latencies, 0.50), percentile(latencies, 0.99),
+                    latencies.length == 0 ? 0 : latencies[latencies.length - 1]);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Load test worker failed", e.getCause());
+        }
+    }
+
+    /**
+     * Builds a fixed set of requests over random supported dates, so request building is not measured.
+     */
+    private static HttpRequest[] requests(Options options, URI target, NepaliDateConverter converter) {
+        long min = converter.getMinSupportedAdDate().toEpochDay();
+        long max = converter.getMaxSupportedAdDate().toEpochDay();
+        Random random = new Random(42);
+        HttpRequest[] requests = new HttpRequest[DISTINCT_REQUESTS];
+        for (int i = 0; i < requests.length; i++) {
+            if (options.batchSize() == 0) {
+                LocalDate date = LocalDate.ofEpochDay(min + random.nextInt((int) (max - min + 1)));
+                requests[i] = HttpRequest.newBuilder(target.resolve("/v1/bs?ad=" + date)).GET().build();
+            } else {
+                StringBuilder body = new StringBuilder("[");
+                for (int j = 0; j < options.batchSize(); j++) {
+                    LocalDate date = LocalDate.ofEpochDay(min + random.nextInt((int) (max - min + 1)));
+                    body.append(j == 0 ? "\"" : ",\"").append(date).append('"');
+                }
+                requests[i] = HttpRequest.newBuilder(target.resolve("/v1/bs"))
+                        .header("Content-Type", ConversionHandler.JSON_TYPE)
+                        .POST(HttpRequest.BodyPublishers.ofString(body.append(']').toString()))
+                        .build();
+            }
+        }
+        return requests;
+    }
+
+    private static long percentile(long[] sorted, double fraction) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(sorted.length * fraction) - 1)];
+    }
+
+    /**
+     * One closed-loop client: sends the next request as soon as the previous response has been read.
+     */
+    private static final class Worker {
+
+        private final HttpClient client;
+        private final HttpRequest[] requests;
+        private final long measureStart;
+        private final long end;
+        private int next;
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        Worker(HttpClient client, HttpRequest[] requests, int first, long measureStart, long end) {
+            this.client = client;
+            this.requests = requests;
+            this.next = first;
+            this.measureStart = measureStart;
+            this.end = end;
+        }
+
+        void run() throws InterruptedException {
+            long start;
+            while ((start = System.nanoTime()) < end) {
+                HttpRequest request = requests[next++ % requests.length];
+                boolean ok;
+                try {
+                    ok = client.send(request, HttpResponse.BodyHandlers.ofByteArray()).statusCode() == 200;
+                } catch (IOException e) {
+                    ok = false;
+                }
+                if (start < measureStart) {
+                    continue;
+                }
+                if (!ok) {
+                    errors++;
+                    continue;
+                }
+                if (count == latencies.length) {
+                    latencies = Arrays.copyOf(latencies, count * 2);
+                }
+                latencies[count++] = System.nanoTime() - start;
+            }
+        }
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        ConversionServer.enableNoDelay();
+        Options options = Options.parse(args);
+        System.out.println("Running " + options);
+        System.out.println(run(options));
+    }
+}
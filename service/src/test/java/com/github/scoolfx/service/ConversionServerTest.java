@@ -0,0 +1,149 @@
+package com.github.scoolfx.service;
+
+import com.github.scoolfx.converter.NepaliDateConverter;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConversionServerTest {
+
+    private static ConversionServer server;
+    private static HttpClient client;
+
+    @BeforeAll
+    static void start() throws IOException {
+        server = ConversionServer.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+                new NepaliDateConverter());
+        client = HttpClient.newHttpClient();
+    }
+
+    @AfterAll
+    static void stop() {
+        client.close();
+        server.close();
+    }
+
+    private static HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(server.getUri().resolve(path)).build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static HttpResponse<String> post(String path, String body) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(server.getUri().resolve(path))
+                        .POST(HttpRequest.BodyPublishers.ofString(body)).build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Test
+    @DisplayName("Single conversions in both directions")
+    void testSingle() throws Exception {
+        HttpResponse<String> toBs = get("/v1/bs?ad=2024-04-13");
+        assertEquals(200, toBs.statusCode());
+        assertEquals("application/json", toBs.headers().firstValue("Content-Type").orElseThrow());
+        assertEquals("{\"ad\":\"2024-04-13\",\"bs\":\"2081-01-01\"}", toBs.body());
+
+        HttpResponse<String> toAd = get("/v1/ad?bs=2081-01-01");
+        assertEquals(200, toAd.statusCode());
+        assertEquals("{\"bs\":\"2081-01-01\",\"ad\":\"2024-04-13\"}", toAd.body());
+    }
+
+    @Test
+    @DisplayName("ISO date arithmetic agrees with LocalDate")
+    void testIsoDates() {
+        char[] buffer = new char[IsoDates.LENGTH];
+        for (LocalDate date = LocalDate.of(1900, 1, 1); date.getYear() < 2100; date = date.plusDays(1)) {
+            assertEquals(IsoDates.LENGTH, IsoDates.format(date.toEpochDay(), buffer, 0));
+            assertEquals(date.toString(), new String(buffer));
+            assertEquals(date.toEpochDay(), IsoDates.parseEpochDay(buffer, 0, buffer.length));
+        }
+        assertEquals(IsoDates.INVALID, IsoDates.parseEpochDay("2023-02-29".toCharArray(), 0, IsoDates.LENGTH));
+        assertEquals(IsoDates.INVALID, IsoDates.parseEpochDay("2024-04-31".toCharArray(), 0, IsoDates.LENGTH));
+    }
+
+    @Test
+    @DisplayName("Single conversions report errors with status 400")
+    void testSingleErrors() throws Exception {
+        assertEquals("{\"ad\":\"1900-01-01\",\"error\":\"OUT_OF_RANGE\"}", get("/v1/bs?ad=1900-01-01").body());
+        assertEquals("{\"ad\":\"2024-02-30\",\"error\":\"INVALID_INPUT\"}", get("/v1/bs?ad=2024-02-30").body());
+        assertEquals("{\"bs\":\"2081-01-32\",\"error\":\"INVALID_BS_DATE\"}", get("/v1/ad?bs=2081-01-32").body());
+        assertEquals("{\"bs\":\"1990-01-01\",\"error\":\"OUT_OF_RANGE\"}", get("/v1/ad?bs=1990-01-01").body());
+        assertEquals(400, get("/v1/ad?bs=soon").statusCode());
+        assertEquals(400, get("/v1/ad").statusCode());
+        assertEquals(404, get("/v1/bs/extra?ad=2024-04-13").statusCode());
+        assertEquals(405, client.send(HttpRequest.newBuilder(server.getUri().resolve("/v1/bs"))
+                .DELETE().build(), HttpResponse.BodyHandlers.discarding()).statusCode());
+    }
+
+    @Test
+    @DisplayName("Batches are answered in order with per-date errors")
+    void testBatch() throws Exception {
+        HttpResponse<String> toBs = post("/v1/bs", "[\"2024-04-13\", \"1900-01-01\", 42, {\"ad\": \"2024-04-13\"}]");
+        assertEquals(200, toBs.statusCode());
+        assertEquals("[{\"ad\":\"2024-04-13\",\"bs\":\"2081-01-01\"},{\"ad\":\"1900-01-01\",\"error\":\"OUT_OF_RANGE\"},"
+                + "{\"error\":\"INVALID_INPUT\"},{\"error\":\"INVALID_INPUT\"}]", toBs.body());
+
+        assertEquals("[{\"bs\":\"2081-01-01\",\"ad\":\"2024-04-13\"},{\"bs\":\"2081-01-32\",\"error\":\"INVALID_BS_DATE\"}]",
+                post("/v1/ad", "[\"2081-01-01\", \"2081-01-32\"]").body());
+        assertEquals("[]", post("/v1/ad", "[]").body());
+        assertEquals(400, post("/v1/ad", "{\"bs\": \"2081-01-01\"}").statusCode());
+        assertEquals(400, post("/v1/ad", "not json").statusCode());
+    }
+
+    @Test
+    @DisplayName("A truncated or malformed batch ends with an INVALID_REQUEST element")
+    void testTruncatedBatch() throws Exception {
+        HttpResponse<String> truncated = post("/v1/bs", "[\"2024-04-13\",\"2024-04-14\", oops");
+        assertEquals("[{\"ad\":\"2024-04-13\",\"bs\":\"2081-01-01\"},{\"ad\":\"2024-04-14\",\"bs\":\"2081-01-02\"},"
+                + "{\"error\":\"INVALID_REQUEST\"}]", truncated.body());
+
+        HttpResponse<String> unterminated = post("/v1/bs", "[\"2024-04-13\", [1, 2");
+        assertEquals("[{\"ad\":\"2024-04-13\",\"bs\":\"2081-01-01\"},{\"error\":\"INVALID_REQUEST\"}]",
+                unterminated.body());
+    }
+
+    @Test
+    @DisplayName("Large batches stream every date and agree with the converter")
+    void testLargeBatch() throws Exception {
+        NepaliDateConverter converter = new NepaliDateConverter();
+        LocalDate start = converter.getMinSupportedAdDate();
+        int size = 20_000;
+        StringBuilder request = new StringBuilder("[");
+        StringBuilder expected = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            LocalDate date = start.plusDays(i);
+            String separator = i == 0 ? "" : ",";
+            request.append(separator).append('"').append(date).append('"');
+            expected.append(separator).append("{\"ad\":\"").append(date)
+                    .append("\",\"bs\":\"").append(converter.toBs(date).format()).append("\"}");
+        }
+        HttpResponse<String> response = post("/v1/bs", request.append(']').toString());
+        assertEquals(200, response.statusCode());
+        assertEquals(expected.append(']').toString(), response.body());
+    }
+
+    @Test
+    @DisplayName("Health reports the supported range and the load test harness completes without errors")
+    void testHealthAndLoadTest() throws Exception {
+        HttpResponse<String> health = get("/health");
+        assertEquals(200, health.statusCode());
+        assertTrue(health.body().contains("\"minYear\":2000"), health.body());
+
+        LoadTest.Result result = LoadTest.run(new LoadTest.Options(server.getUri(), 4,
+                Duration.ofMillis(200), Duration.ofMillis(500), 0));
+        assertTrue(result.requests() > 0);
+        assertEquals(0, result.errors());
+        assertTrue(result.p50Nanos() <= result.p99Nanos() && result.p99Nanos() <= result.maxNanos());
+    }
+}
@@ -0,0 +1,282 @@
+package com.github.scoolfx.business;
+
+import com.github.scoolfx.converter.CalendarData;
+import com.github.scoolfx.converter.CalendarDataRegistry;
+import com.github.scoolfx.converter.NepaliDateConverter;
+import com.github.scoolfx.exception.NepaliCalendarException;
+import com.github.scoolfx.model.BsDate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Working days over the supported range: every day that is neither a weekend day nor a holiday.
+ * <p>
+ * Working days are kept as one bit per day, with a running count of working days at the start of
+ * every 64-day word. Counting working days between two dates is two word lookups and a
+ * {@link Long#bitCount(long) popcount}; adding working days searches the word counts outwards from
+ * the starting day and then picks the bit within one word with {@link Long#expand(long, long)}.
+ * No operation walks day by day.
+ * <p>
+ * A calendar is built for one {@link CalendarData} snapshot and is immutable and thread-safe.
+ * Holidays in years outside that snapshot's range are ignored.
+ */
+public final class BusinessCalendar {
+
+    /**
+     * Nepal's weekly day off.
+     */
+    public static final Set<DayOfWeek> SATURDAY = Set.of(DayOfWeek.SATURDAY);
+
+    private final CalendarData data;
+    private final NepaliDateConverter converter;
+    private final Set<DayOfWeek> weekend;
+    private final List<Holiday> holidays;
+    private final long minEpochDay;
+    private final long maxEpochDay;
+
+    /**
+     * Bit {@code i % 64} of word {@code i / 64} is set if day {@code minEpochDay + i} is a working day.
+     */
+    private final long[] words;
+
+    /**
+     * {@code prefix[w]} is the number of working days in words {@code 0} to {@code w - 1}.
+     */
+    private final int[] prefix;
+
+    private BusinessCalendar(CalendarData data, Set<DayOfWeek> weekend, List<Holiday> holidays) {
+        this.data = data;
+        this.converter = new NepaliDateConverter(data);
+        this.weekend = weekend;
+        this.holidays = holidays;
+        this.minEpochDay = data.getMinSupportedAdDate().toEpochDay();
+        this.maxEpochDay = data.getMaxSupportedAdDate().toEpochDay();
+
+        int length = (int) (maxEpochDay - minEpochDay + 1);
+        this.words = new long[(length + 63) >>> 6];
+        for (int i = 0; i < length; i++) {
+            // Epoch day 0 was a Thursday
+            DayOfWeek dayOfWeek = DayOfWeek.of(Math.floorMod(minEpochDay + i + 3, 7) + 1);
+            if (!weekend.contains(dayOfWeek)) {
+                words[i >>> 6] |= 1L << i;
+            }
+        }
+        for (Holiday holiday : holidays) {
+            BsDate date = holiday.date();
+            if (date.year() < data.getMinYear() || date.year() > data.getMaxYear()) {
+                continue;
+            }
+            long epochDay = converter.tryToAdEpochDay(date.year(), date.month().getValue(), date.day());
+            if (epochDay == NepaliDateConverter.INVALID_EPOCH_DAY) {
+                throw new NepaliCalendarException(NepaliCalendarException.ErrorCode.DATA_LOAD_ERROR,
+                        "Invalid holiday date {} ({})", date.format(), holiday.name());
+            }
+            int i = (int) (epochDay - minEpochDay);
+            words[i >>> 6] &= ~(1L << i);
+        }
+        this.prefix = new int[words.length + 1];
+        for (int w = 0; w < words.length; w++) {
+            prefix[w + 1] = prefix[w] + Long.bitCount(words[w]);
+        }
+    }
+
+    /**
+     * Builds a calendar for the current registry snapshot with Saturdays off and the given holidays.
+     *
+     * @throws NepaliCalendarException with {@code DATA_LOAD_ERROR} if the holidays cannot be read or are invalid.
+     */
+    public static BusinessCalendar load(HolidaySource source) {
+        return load(CalendarDataRegistry.current(), SATURDAY, source);
+    }
+
+    /**
+     * Builds a calendar for the given snapshot, weekend days and holidays.
+     *
+     * @throws NepaliCalendarException with {@code DATA_LOAD_ERROR} if the holidays cannot be read or are invalid.
+     */
+    public static BusinessCalendar load(CalendarData data, Set<DayOfWeek> weekend, HolidaySource source) {
+        List<Holiday> holidays;
+        try {
+            holidays = source.load();
+        } catch (NepaliCalendarException e) {
+            throw e;
+        } catch (Exception | LinkageError e) {
+            throw new NepaliCalendarException("Failed to load holidays from " + source,
+                    NepaliCalendarException.ErrorCode.DATA_LOAD_ERROR, e);
+        }
+        return of(data, weekend, holidays);
+    }
+
+    /**
+     * Builds a calendar for the given snapshot, weekend days and holidays.
+     *
+     * @throws NepaliCalendarException with {@code DATA_LOAD_ERROR} if a holiday is not a valid date.
+     */
+    public static BusinessCalendar of(CalendarData data, Set<DayOfWeek> weekend, Collection<Holiday> holidays) {
+        if (data == null || weekend == null || holidays == null) {
+            throw new IllegalArgumentException("Calendar data, weekend and holidays must not be null");
+        }
+        Set<DayOfWeek> weekendCopy = weekend.isEmpty() ? Set.of() : Set.copyOf(EnumSet.copyOf(weekend));
+        return new BusinessCalendar(data, weekendCopy, List.copyOf(holidays));
+    }
+
+    public CalendarData getCalendarData() {
+        return data;
+    }
+
+    public Set<DayOfWeek> getWeekend() {
+        return weekend;
+    }
+
+    public List<Holiday> getHolidays() {
+        return holidays;
+    }
+
+    /**
+     * Returns whether the given A.D. day is a working day.
+     *
+     * @throws NepaliCalendarException with {@code OUT_OF_RANGE} if the day is outside the supported range.
+     */
+    public boolean isWorkingDay(long epochDay) {
+        checkRange(epochDay);
+        int i = (int) (epochDay - minEpochDay);
+        return (words[i >>> 6] & (1L << i)) != 0;
+    }
+
+    /**
+     * Returns whether the given B.S. date is a working day.
+     *
+     * @throws NepaliCalendarException if the date is invalid or unsupported.
+     */
+    public boolean isWorkingDay(BsDate date) {
+        return isWorkingDay(epochDay(date));
+    }
+
+    /**
+     * Returns the number of working days from {@code startInclusive} to {@code endExclusive};
+     * negative if the end is earlier.
+     *
+     * @throws NepaliCalendarException with {@code OUT_OF_RANGE} if either day is outside the supported range.
+     */
+    public long workingDaysBetween(long startInclusive, long endExclusive) {
+        checkRange(startInclusive);
+        if (endExclusive != maxEpochDay + 1) {
+            checkRange(endExclusive);
+        }
+        return rank(endExclusive) - rank(startInclusive);
+    }
+
+    /**
+     * Returns the number of working days from {@code startInclusive} to {@code endExclusive};
+     * negative if the end is earlier.
+     *
+     * @throws NepaliCalendarException if either date is invalid or unsupported.
+     */
+    public long workingDaysBetween(BsDate startInclusive, BsDate endExclusive) {
+        return rank(epochDay(endExclusive)) - rank(epochDay(startInclusive));
+    }
+
+    /**
+     * Returns the day that is {@code workingDays} working days after the given day, or before it if
+     * negative. The given day itself is not counted, so adding {@code 1} to a Friday before a
+     * Saturday returns the Sunday; adding {@code 0} returns the day unchanged.
+     *
+     * @throws NepaliCalendarException with {@code OUT_OF_RANGE} if the day or the result is outside the supported range.
+     */
+    public long addWorkingDays(long epochDay, int workingDays) {
+        checkRange(epochDay);
+        if (workingDays == 0) {
+            return epochDay;
+        }
+        // Index, counted from the first supported day, of the working day to return
+        long target = workingDays > 0
+                ? rank(epochDay + 1) + workingDays - 1
+                : rank(epochDay) + workingDays;
+        if (target < 0 || target >= prefix[words.length]) {
+            throw new NepaliCalendarException(NepaliCalendarException.ErrorCode.OUT_OF_RANGE,
+                    "Adding {} working days to epoch day {} leaves the supported range.", workingDays, epochDay);
+        }
+        return select((int) target, epochDay);
+    }
+
+    /**
+     * Returns the date that is {@code workingDays} working days after the given date, or before it if negative.
+     *
+     * @throws NepaliCalendarException if the date is invalid or the result is outside the supported range.
+     * @see #addWorkingDays(long, int)
+     */
+    public BsDate addWorkingDays(BsDate date, int workingDays) {
+        return converter.toBs(LocalDate.ofEpochDay(addWorkingDays(epochDay(date), workingDays)));
+    }
+
+    /**
+     * Returns the number of working days before {@code epochDay}, which must be in
+     * {@code [minEpochDay, maxEpochDay + 1]}.
+     */
+    private long rank(long epochDay) {
+        long offset = epochDay - minEpochDay;
+        int word = (int) (offset >>> 6);
+        int bit = (int) (offset & 63);
+        long count = prefix[word];
+        if (bit != 0) {
+            count += Long.bitCount(words[word] & ((1L << bit) - 1));
+        }
+        return count;
+    }
+
+    /**
+     * Returns the epoch day of the working day with the given index, searching outwards from the
+     * word of {@code nearEpochDay} since results are usually close to the day they were counted from.
+     */
+    private long select(int index, long nearEpochDay) {
+        // Find the last word whose preceding count does not exceed the index: gallop away from
+        // the hint until it is bracketed, then binary search the bracket
+        int hint = (int) ((nearEpochDay - minEpochDay) >>> 6);
+        int low;
+        int high;
+        int bound = 1;
+        if (prefix[hint] <= index) {
+            low = hint;
+            while (low + bound < words.length && prefix[low + bound] <= index) {
+                low += bound;
+                bound <<= 1;
+            }
+            high = Math.min(low + bound, words.length) - 1;
+        } else {
+            high = hint;
+            while (high - bound >= 0 && prefix[high - bound] > index) {
+                high -= bound;
+                bound <<= 1;
+            }
+            low = Math.max(0, high - bound);
+            high--;
+        }
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (prefix[mid] <= index) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        // Deposit a single bit onto the set bits of the word: it lands on the wanted one
+        long bit = Long.expand(1L << (index - prefix[low]), words[low]);
+        return minEpochDay + ((long) low << 6) + Long.numberOfTrailingZeros(bit);
+    }
+
+    private long epochDay(BsDate date) {
+        return converter.toAdEpochDay(date.year(), date.month().getValue(), date.day());
+    }
+
+    private void checkRange(long epochDay) {
+        if (epochDay < minEpochDay || epochDay > maxEpochDay) {
+            throw new NepaliCalendarException(NepaliCalendarException.ErrorCode.OUT_OF_RANGE,
+                    "Epoch day {} is outside the supported range.", epochDay);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.github.scoolfx.business;
+
+import com.github.scoolfx.model.BsDate;
+
+/**
+ * A public holiday on a B.S. date.
+ *
+ * @param date The day of the holiday.
+ * @param name The name of the holiday, e.g. as gazetted.
+ */
+public record Holiday(BsDate date, String name) {
+
+    public Holiday {
+        if (date == null) {
+            throw new IllegalArgumentException("Holiday date must not be null");
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.github.scoolfx.business;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Where holiday lists come from.
+ * <p>
+ * The built-in file, byte and resource sources read JSON in the same style as
+ * {@code nepali-calendar-data.json}: an array of objects with a B.S. {@code date}
+ * ({@code yyyy-MM-dd}) and a {@code name}.
+ * <pre>{@code
+ * [
+ *   {"date": "2081-01-01", "name": "Nepali New Year"}
+ * ]
+ * }</pre>
+ * Reading JSON requires Jackson on the classpath.
+ *
+ * @see BusinessCalendar#load(HolidaySource)
+ */
+@FunctionalInterface
+public interface HolidaySource {
+
+    /**
+     * Reads the holidays. Validation happens when the {@link BusinessCalendar} is built.
+     *
+     * @throws IOException if the list cannot be read.
+     */
+    List<Holiday> load() throws IOException;
+
+    /**
+     * A JSON holiday file on disk. The file is read each time {@link #load()} is called.
+     */
+    static HolidaySource file(Path path) {
+        return new HolidaySources.FileSource(path);
+    }
+
+    /**
+     * A JSON holiday list held in memory. The array is copied.
+     */
+    static HolidaySource bytes(byte[] data) {
+        return new HolidaySources.ByteSource(data.clone());
+    }
+
+    /**
+     * A JSON holiday list on the classpath, e.g. {@code "/holidays.json"}.
+     */
+    static HolidaySource resource(String name) {
+        return new HolidaySources.ResourceSource(name);
+    }
+
+    /**
+     * The given holidays. The collection is copied.
+     */
+    static HolidaySource of(Collection<Holiday> holidays) {
+        List<Holiday> copy = List.copyOf(holidays);
+        return () -> copy;
+    }
+}
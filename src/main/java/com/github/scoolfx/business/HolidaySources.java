@@ -0,0 +1,64 @@
+package com.github.scoolfx.business;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Built-in {@link HolidaySource} implementations.
+ */
+final class HolidaySources {
+
+    private HolidaySources() {
+    }
+
+    record FileSource(Path path) implements HolidaySource {
+
+        @Override
+        public List<Holiday> load() throws IOException {
+            try (InputStream in = Files.newInputStream(path)) {
+                return JsonHolidays.read(in);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "file:" + path;
+        }
+    }
+
+    record ByteSource(byte[] data) implements HolidaySource {
+
+        @Override
+        public List<Holiday> load() throws IOException {
+            return JsonHolidays.read(new ByteArrayInputStream(data));
+        }
+
+        @Override
+        public String toString() {
+            return "bytes[" + data.length + "]";
+        }
+    }
+
+    record ResourceSource(String name) implements HolidaySource {
+
+        @Override
+        public List<Holiday> load() throws IOException {
+            try (InputStream in = HolidaySources.class.getResourceAsStream(name)) {
+                if (in == null) {
+                    throw new FileNotFoundException("Holiday resource " + name + " not found");
+                }
+                return JsonHolidays.read(in);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "classpath:" + name;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.github.scoolfx.business;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.scoolfx.exception.NepaliCalendarException;
+import com.github.scoolfx.format.BsDateFormatter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads JSON holiday lists. This is the only class of the package that touches Jackson.
+ */
+final class JsonHolidays {
+
+    private JsonHolidays() {
+    }
+
+    private record Entry(String date, String name) {
+    }
+
+    static List<Holiday> read(InputStream in) throws IOException {
+        Entry[] entries = new ObjectMapper().readValue(in, Entry[].class);
+        List<Holiday> holidays = new ArrayList<>(entries.length);
+        for (Entry entry : entries) {
+            if (entry == null || entry.date() == null) {
+                throw new IOException("Holiday entry without a date");
+            }
+            try {
+                holidays.add(new Holiday(BsDateFormatter.ISO.parse(entry.date()), entry.name()));
+            } catch (NepaliCalendarException e) {
+                throw new IOException("Invalid holiday date '" + entry.date() + "'", e);
+            }
+        }
+        return holidays;
+    }
+}
@@ -0,0 +1,179 @@
+package com.github.scoolfx.chrono;
+
+import com.github.scoolfx.converter.CalendarData;
+import com.github.scoolfx.converter.NepaliDateConverter;
+import com.github.scoolfx.exception.NepaliCalendarException;
+
+import java.time.Clock;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.chrono.AbstractChronology;
+import java.time.chrono.Era;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.ValueRange;
+import java.util.List;
+
+/**
+ * The Bikram Sambat calendar system as a {@link java.time.chrono.Chronology}.
+ * <p>
+ * Dates are backed by the same calendar data as {@link NepaliDateConverter}: the
+ * chronology follows the snapshot published in
+ * {@link com.github.scoolfx.converter.CalendarDataRegistry}. Only the years covered by
+ * that data are supported; anything else fails with a {@link DateTimeException}, as
+ * {@code java.time} callers expect.
+ * <p>
+ * A year is treated as a leap year when it has 366 days.
+ * <p>
+ * The chronology is registered as a {@code java.time.chrono.Chronology} service, so
+ * {@code Chronology.of("BikramSambat")} returns an instance equal to {@link #INSTANCE}.
+ */
+public final class BikramSambatChronology extends AbstractChronology {
+
+    /**
+     * The singleton instance of the Bikram Sambat chronology.
+     */
+    public static final BikramSambatChronology INSTANCE = new BikramSambatChronology();
+
+    /**
+     * Public only so that {@link java.util.ServiceLoader} can instantiate the chronology;
+     * use {@link #INSTANCE} instead.
+     */
+    public BikramSambatChronology() {
+    }
+
+    /**
+     * Returns the converter backing this chronology, created on first use.
+     */
+    static NepaliDateConverter converter() {
+        return ConverterHolder.CONVERTER;
+    }
+
+    /**
+     * Returns the calendar data snapshot currently backing this chronology.
+     */
+    static CalendarData data() {
+        return ConverterHolder.CONVERTER.getCalendarData();
+    }
+
+    static DateTimeException toDateTimeException(NepaliCalendarException e) {
+        return new DateTimeException(e.getMessage(), e);
+    }
+
+    @Override
+    public String getId() {
+        return "BikramSambat";
+    }
+
+    /**
+     * Returns {@code null}, as Bikram Sambat has no Unicode LDML calendar type.
+     */
+    @Override
+    public String getCalendarType() {
+        return null;
+    }
+
+    @Override
+    public BsChronoLocalDate date(Era era, int yearOfEra, int month, int dayOfMonth) {
+        return date(prolepticYear(era, yearOfEra), month, dayOfMonth);
+    }
+
+    @Override
+    public BsChronoLocalDate date(int prolepticYear, int month, int dayOfMonth) {
+        return BsChronoLocalDate.of(prolepticYear, month, dayOfMonth);
+    }
+
+    @Override
+    public BsChronoLocalDate dateYearDay(Era era, int yearOfEra, int dayOfYear) {
+        return dateYearDay(prolepticYear(era, yearOfEra), dayOfYear);
+    }
+
+    @Override
+    public BsChronoLocalDate dateYearDay(int prolepticYear, int dayOfYear) {
+        return BsChronoLocalDate.ofYearDay(prolepticYear, dayOfYear);
+    }
+
+    @Override
+    public BsChronoLocalDate dateEpochDay(long epochDay) {
+        return BsChronoLocalDate.ofEpochDay(epochDay);
+    }
+
+    /**
+     * Obtains a Bikram Sambat date from any temporal that has an epoch day, using an O(1) table lookup.
+     */
+    @Override
+    public BsChronoLocalDate date(TemporalAccessor temporal) {
+        if (temporal instanceof BsChronoLocalDate date) {
+            return date;
+        }
+        return BsChronoLocalDate.ofEpochDay(temporal.getLong(ChronoField.EPOCH_DAY));
+    }
+
+    @Override
+    public BsChronoLocalDate dateNow() {
+        return dateNow(Clock.systemDefaultZone());
+    }
+
+    @Override
+    public BsChronoLocalDate dateNow(ZoneId zone) {
+        return dateNow(Clock.system(zone));
+    }
+
+    @Override
+    public BsChronoLocalDate dateNow(Clock clock) {
+        return date(LocalDate.now(clock));
+    }
+
+    @Override
+    public boolean isLeapYear(long prolepticYear) {
+        CalendarData data = data();
+        if (prolepticYear < data.getMinYear() || prolepticYear > data.getMaxYear()) {
+            return false;
+        }
+        return data.getYearLength((int) prolepticYear) > 365;
+    }
+
+    @Override
+    public int prolepticYear(Era era, int yearOfEra) {
+        if (!(era instanceof BsEra)) {
+            throw new ClassCastException("Era must be BsEra");
+        }
+        return yearOfEra;
+    }
+
+    @Override
+    public BsEra eraOf(int eraValue) {
+        return BsEra.of(eraValue);
+    }
+
+    @Override
+    public List<Era> eras() {
+        return List.of(BsEra.values());
+    }
+
+    @Override
+    public ValueRange range(ChronoField field) {
+        return switch (field) {
+            case DAY_OF_MONTH -> ValueRange.of(1, 29, 32);
+            case DAY_OF_YEAR -> ValueRange.of(1, 365, 366);
+            case ALIGNED_WEEK_OF_MONTH -> ValueRange.of(1, 5);
+            case ALIGNED_WEEK_OF_YEAR -> ValueRange.of(1, 53);
+            case MONTH_OF_YEAR -> ValueRange.of(1, 12);
+            case PROLEPTIC_MONTH -> {
+                CalendarData data = data();
+                yield ValueRange.of(data.getMinYear() * 12L, data.getMaxYear() * 12L + 11);
+            }
+            case YEAR_OF_ERA, YEAR -> {
+                CalendarData data = data();
+                yield ValueRange.of(data.getMinYear(), data.getMaxYear());
+            }
+            case ERA -> ValueRange.of(1, 1);
+            default -> field.range();
+        };
+    }
+
+    private static final class ConverterHolder {
+        static final NepaliDateConverter CONVERTER = new NepaliDateConverter();
+    }
+}
@@ -0,0 +1,327 @@
+package com.github.scoolfx.chrono;
+
+import com.github.scoolfx.converter.CalendarData;
+import com.github.scoolfx.exception.NepaliCalendarException;
+import com.github.scoolfx.model.BsDate;
+import com.github.scoolfx.model.BsMonth;
+import com.github.scoolfx.model.PackedBsDate;
+
+import java.time.DateTimeException;
+import java.time.chrono.ChronoLocalDate;
+import java.time.chrono.ChronoPeriod;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalField;
+import java.time.temporal.TemporalUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.time.temporal.ValueRange;
+
+/**
+ * A date in the {@link BikramSambatChronology}.
+ * <p>
+ * The date is stored as an epoch day alongside its year, month and day, so comparisons,
+ * {@code plus}/{@code minus} in days and {@code until} are integer arithmetic, and month or
+ * year arithmetic is a constant-time table lookup. Instances are immutable and thread-safe.
+ */
+public final class BsChronoLocalDate implements ChronoLocalDate {
+
+    private final long epochDay;
+    private final int year;
+    private final int month;
+    private final int day;
+
+    private BsChronoLocalDate(long epochDay, int year, int month, int day) {
+        this.epochDay = epochDay;
+        this.year = year;
+        this.month = month;
+        this.day = day;
+    }
+
+    /**
+     * Obtains a date from a year, month (1-12) and day of month.
+     *
+     * @throws DateTimeException if the date is invalid or outside the supported range.
+     */
+    public static BsChronoLocalDate of(int year, int month, int dayOfMonth) {
+        try {
+            long epochDay = BikramSambatChronology.converter().toAdEpochDay(year, month, dayOfMonth);
+            return new BsChronoLocalDate(epochDay, year, month, dayOfMonth);
+        } catch (NepaliCalendarException e) {
+            throw BikramSambatChronology.toDateTimeException(e);
+        }
+    }
+
+    /**
+     * Obtains a date from a {@link BsDate}.
+     *
+     * @throws DateTimeException if the date is invalid or outside the supported range.
+     */
+    public static BsChronoLocalDate of(BsDate date) {
+        return of(date.year(), date.month().getValue(), date.day());
+    }
+
+    /**
+     * Obtains a date from any temporal that has an epoch day, such as a {@link java.time.LocalDate}.
+     *
+     * @throws DateTimeException if the temporal has no epoch day or is outside the supported range.
+     */
+    public static BsChronoLocalDate from(TemporalAccessor temporal) {
+        return BikramSambatChronology.INSTANCE.date(temporal);
+    }
+
+    static BsChronoLocalDate ofEpochDay(long epochDay) {
+        try {
+            int packed = BikramSambatChronology.converter().toBsPacked(epochDay);
+            return new BsChronoLocalDate(epochDay, PackedBsDate.year(packed), PackedBsDate.month(packed),
+                    PackedBsDate.day(packed));
+        } catch (NepaliCalendarException e) {
+            throw BikramSambatChronology.toDateTimeException(e);
+        }
+    }
+
+    static BsChronoLocalDate ofYearDay(int year, int dayOfYear) {
+        BsChronoLocalDate start = of(year, 1, 1);
+        if (dayOfYear < 1 || dayOfYear > start.lengthOfYear()) {
+            throw new DateTimeException("Invalid day of year " + dayOfYear + " for B.S. year " + year);
+        }
+        return start.plusDays(dayOfYear - 1);
+    }
+
+    /**
+     * Converts this date to the SDK's {@link BsDate} model.
+     */
+    public BsDate toBsDate() {
+        return new BsDate(year, BsMonth.fromValue(month), day);
+    }
+
+    @Override
+    public BikramSambatChronology getChronology() {
+        return BikramSambatChronology.INSTANCE;
+    }
+
+    @Override
+    public BsEra getEra() {
+        return BsEra.BS;
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public int getMonthValue() {
+        return month;
+    }
+
+    public int getDayOfMonth() {
+        return day;
+    }
+
+    @Override
+    public int lengthOfMonth() {
+        return data().getMonthLength(year, month);
+    }
+
+    @Override
+    public int lengthOfYear() {
+        return data().getYearLength(year);
+    }
+
+    @Override
+    public long toEpochDay() {
+        return epochDay;
+    }
+
+    @Override
+    public ValueRange range(TemporalField field) {
+        if (field instanceof ChronoField chronoField) {
+            if (!isSupported(field)) {
+                throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+            }
+            return switch (chronoField) {
+                case DAY_OF_MONTH -> ValueRange.of(1, lengthOfMonth());
+                case DAY_OF_YEAR -> ValueRange.of(1, lengthOfYear());
+                case ALIGNED_WEEK_OF_MONTH -> ValueRange.of(1, (lengthOfMonth() + 6) / 7);
+                default -> getChronology().range(chronoField);
+            };
+        }
+        return field.rangeRefinedBy(this);
+    }
+
+    @Override
+    public long getLong(TemporalField field) {
+        if (field instanceof ChronoField chronoField) {
+            return switch (chronoField) {
+                case DAY_OF_WEEK -> Math.floorMod(epochDay + 3, 7) + 1;
+                case ALIGNED_DAY_OF_WEEK_IN_MONTH -> (day - 1) % 7 + 1;
+                case ALIGNED_DAY_OF_WEEK_IN_YEAR -> (dayOfYear() - 1) % 7 + 1;
+                case DAY_OF_MONTH -> day;
+                case DAY_OF_YEAR -> dayOfYear();
+                case EPOCH_DAY -> epochDay;
+                case ALIGNED_WEEK_OF_MONTH -> (day - 1) / 7 + 1;
+                case ALIGNED_WEEK_OF_YEAR -> (dayOfYear() - 1) / 7 + 1;
+                case MONTH_OF_YEAR -> month;
+                case PROLEPTIC_MONTH -> prolepticMonth();
+                case YEAR_OF_ERA, YEAR -> year;
+                case ERA -> 1;
+                default -> throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+            };
+        }
+        return field.getFrom(this);
+    }
+
+    @Override
+    public BsChronoLocalDate with(TemporalField field, long newValue) {
+        if (field instanceof ChronoField chronoField) {
+            range(field).checkValidValue(newValue, field);
+            int value = (int) newValue;
+            return switch (chronoField) {
+                case DAY_OF_WEEK -> plusDays(newValue - getLong(ChronoField.DAY_OF_WEEK));
+                case ALIGNED_DAY_OF_WEEK_IN_MONTH, ALIGNED_DAY_OF_WEEK_IN_YEAR ->
+                        plusDays(newValue - getLong(field));
+                case DAY_OF_MONTH -> of(year, month, value);
+                case DAY_OF_YEAR -> plusDays(newValue - dayOfYear());
+                case EPOCH_DAY -> ofEpochDay(newValue);
+                case ALIGNED_WEEK_OF_MONTH, ALIGNED_WEEK_OF_YEAR -> plusDays((newValue - getLong(field)) * 7);
+                case MONTH_OF_YEAR -> resolvePreviousValid(year, value, day);
+                case PROLEPTIC_MONTH -> plusMonths(newValue - prolepticMonth());
+                case YEAR_OF_ERA, YEAR -> resolvePreviousValid(value, month, day);
+                case ERA -> this;
+                default -> throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+            };
+        }
+        return (BsChronoLocalDate) ChronoLocalDate.super.with(field, newValue);
+    }
+
+    @Override
+    public BsChronoLocalDate plus(long amountToAdd, TemporalUnit unit) {
+        if (unit instanceof ChronoUnit chronoUnit) {
+            return switch (chronoUnit) {
+                case DAYS -> plusDays(amountToAdd);
+                case WEEKS -> plusDays(Math.multiplyExact(amountToAdd, 7));
+                case MONTHS -> plusMonths(amountToAdd);
+                case YEARS -> plusYears(amountToAdd);
+                case DECADES -> plusYears(Math.multiplyExact(amountToAdd, 10));
+                case CENTURIES -> plusYears(Math.multiplyExact(amountToAdd, 100));
+                case MILLENNIA -> plusYears(Math.multiplyExact(amountToAdd, 1000));
+                default -> throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+            };
+        }
+        return (BsChronoLocalDate) ChronoLocalDate.super.plus(amountToAdd, unit);
+    }
+
+    @Override
+    public BsChronoLocalDate minus(long amountToSubtract, TemporalUnit unit) {
+        return amountToSubtract == Long.MIN_VALUE
+                ? plus(Long.MAX_VALUE, unit).plus(1, unit)
+                : plus(-amountToSubtract, unit);
+    }
+
+    public BsChronoLocalDate plusDays(long days) {
+        return days == 0 ? this : ofEpochDay(Math.addExact(epochDay, days));
+    }
+
+    /**
+     * Adds months, clamping the day to the last day of the resulting month if needed.
+     */
+    public BsChronoLocalDate plusMonths(long months) {
+        if (months == 0) {
+            return this;
+        }
+        long target = Math.addExact(prolepticMonth(), months);
+        return resolvePreviousValid(checkYear(Math.floorDiv(target, 12)), Math.floorMod(target, 12) + 1, day);
+    }
+
+    /**
+     * Adds years, clamping the day to the last day of the resulting month if needed.
+     */
+    public BsChronoLocalDate plusYears(long years) {
+        return years == 0 ? this : resolvePreviousValid(checkYear(Math.addExact(year, years)), month, day);
+    }
+
+    @Override
+    public long until(Temporal endExclusive, TemporalUnit unit) {
+        BsChronoLocalDate end = from(endExclusive);
+        if (unit instanceof ChronoUnit chronoUnit) {
+            return switch (chronoUnit) {
+                case DAYS -> end.epochDay - epochDay;
+                case WEEKS -> (end.epochDay - epochDay) / 7;
+                case MONTHS -> monthsUntil(end);
+                case YEARS -> monthsUntil(end) / 12;
+                case DECADES -> monthsUntil(end) / 120;
+                case CENTURIES -> monthsUntil(end) / 1200;
+                case MILLENNIA -> monthsUntil(end) / 12000;
+                default -> throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+            };
+        }
+        return unit.between(this, end);
+    }
+
+    @Override
+    public ChronoPeriod until(ChronoLocalDate endDateExclusive) {
+        BsChronoLocalDate end = from(endDateExclusive);
+        long totalMonths = end.prolepticMonth() - prolepticMonth();
+        int days = end.day - day;
+        if (totalMonths > 0 && days < 0) {
+            totalMonths--;
+            days = (int) (end.epochDay - plusMonths(totalMonths).epochDay);
+        } else if (totalMonths < 0 && days > 0) {
+            totalMonths++;
+            days -= end.lengthOfMonth();
+        }
+        return getChronology().period(Math.toIntExact(totalMonths / 12), (int) (totalMonths % 12), days);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        return obj instanceof BsChronoLocalDate other && epochDay == other.epochDay;
+    }
+
+    @Override
+    public int hashCode() {
+        return getChronology().getId().hashCode() ^ Long.hashCode(epochDay);
+    }
+
+    /**
+     * Returns the date as {@code BikramSambat BS yyyy-MM-dd}.
+     */
+    @Override
+    public String toString() {
+        return getChronology().getId() + " " + getEra() + " " + toBsDate().format();
+    }
+
+    private long prolepticMonth() {
+        return year * 12L + month - 1;
+    }
+
+    private long monthsUntil(BsChronoLocalDate end) {
+        long start = prolepticMonth() * 32L + day;
+        long finish = end.prolepticMonth() * 32L + end.day;
+        return (finish - start) / 32;
+    }
+
+    private int dayOfYear() {
+        return (int) (epochDay - BikramSambatChronology.converter().toAdEpochDay(year, 1, 1)) + 1;
+    }
+
+    private static CalendarData data() {
+        return BikramSambatChronology.data();
+    }
+
+    private static int checkYear(long year) {
+        CalendarData data = data();
+        if (year < data.getMinYear() || year > data.getMaxYear()) {
+            throw new DateTimeException("B.S. Year " + year + " is not supported by the current data file.");
+        }
+        return (int) year;
+    }
+
+    private static BsChronoLocalDate resolvePreviousValid(int year, int month, int day) {
+        checkYear(year);
+        return of(year, month, Math.min(day, data().getMonthLength(year, month)));
+    }
+}
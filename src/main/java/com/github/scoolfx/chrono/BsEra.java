@@ -0,0 +1,32 @@
+package com.github.scoolfx.chrono;
+
+import java.time.DateTimeException;
+import java.time.chrono.Era;
+
+/**
+ * The single era of the {@link BikramSambatChronology}.
+ */
+public enum BsEra implements Era {
+
+    /**
+     * Bikram Sambat, the era in which all supported years lie.
+     */
+    BS;
+
+    /**
+     * Obtains the era from its numeric value, which must be {@code 1}.
+     *
+     * @throws DateTimeException if the value is not {@code 1}.
+     */
+    public static BsEra of(int value) {
+        if (value != 1) {
+            throw new DateTimeException("Invalid Bikram Sambat era: " + value);
+        }
+        return BS;
+    }
+
+    @Override
+    public int getValue() {
+        return 1;
+    }
+}
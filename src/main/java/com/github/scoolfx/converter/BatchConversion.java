@@ -0,0 +1,130 @@
+package com.github.scoolfx.converter;
+
+import com.github.scoolfx.model.PackedBsDate;
+
+import java.time.LocalDate;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Array-at-a-time conversion loops used by the bulk methods of {@link NepaliDateConverter}.
+ * <p>
+ * Every loop works on a {@code [from, to)} slice so the same code runs sequentially or as
+ * a leaf of a fork-join split. Failed elements get zeroed outputs and a {@code true}
+ * error flag; each loop returns the number of failures in its slice.
+ */
+final class BatchConversion {
+
+    /**
+     * Slices at or below this many elements are converted on the calling thread.
+     */
+    static final int PARALLEL_THRESHOLD = 1 << 13;
+
+    private BatchConversion() {
+    }
+
+    static int toBs(CalendarTable table, long[] epochDays, int[] years, int[] months, int[] days,
+                    boolean[] errors, int from, int to) {
+        int failures = 0;
+        for (int i = from; i < to; i++) {
+            failures += store(table.lookup(epochDays[i]), years, months, days, errors, i);
+        }
+        return failures;
+    }
+
+    static int toBs(CalendarTable table, LocalDate[] adDates, int[] years, int[] months, int[] days,
+                    boolean[] errors, int from, int to) {
+        int failures = 0;
+        for (int i = from; i < to; i++) {
+            LocalDate adDate = adDates[i];
+            int packed = adDate == null ? 0 : table.lookup(adDate.toEpochDay());
+            failures += store(packed, years, months, days, errors, i);
+        }
+        return failures;
+    }
+
+    static int toBsFromEpochMilli(CalendarTable table, long[] epochMillis, int[] years, int[] months, int[] days,
+                                  boolean[] errors, int from, int to) {
+        int failures = 0;
+        for (int i = from; i < to; i++) {
+            failures += store(table.lookup(NepalTime.epochDay(epochMillis[i])), years, months, days, errors, i);
+        }
+        return failures;
+    }
+
+    static int toAd(CalendarTable table, int[] years, int[] months, int[] days, long[] epochDays,
+                    boolean[] errors, int from, int to) {
+        int failures = 0;
+        for (int i = from; i < to; i++) {
+            long epochDay = table.epochDay(years[i], months[i], days[i]);
+            boolean failed = epochDay == CalendarTable.INVALID_EPOCH_DAY;
+            epochDays[i] = failed ? 0 : epochDay;
+            errors[i] = failed;
+            if (failed) {
+                failures++;
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * Runs the conversion over {@code [0, length)}, splitting it across the common fork-join pool
+     * when the batch is large enough to benefit.
+     */
+    static int parallel(int length, Slice slice) {
+        if (length <= PARALLEL_THRESHOLD) {
+            return slice.convert(0, length);
+        }
+        return ForkJoinPool.commonPool().invoke(new SliceTask(slice, 0, length));
+    }
+
+    static void checkLengths(int length, int... outputLengths) {
+        for (int outputLength : outputLengths) {
+            if (outputLength < length) {
+                throw new IllegalArgumentException(
+                        "Output array of length " + outputLength + " cannot hold " + length + " results");
+            }
+        }
+    }
+
+    private static int store(int packed, int[] years, int[] months, int[] days, boolean[] errors, int i) {
+        years[i] = PackedBsDate.year(packed);
+        months[i] = PackedBsDate.month(packed);
+        days[i] = PackedBsDate.day(packed);
+        errors[i] = packed == 0;
+        return packed == 0 ? 1 : 0;
+    }
+
+    /**
+     * A conversion over the {@code [from, to)} slice of a batch, returning the failure count.
+     */
+    @FunctionalInterface
+    interface Slice {
+        int convert(int from, int to);
+    }
+
+    private static final class SliceTask extends RecursiveTask<Integer> {
+
+        private final Slice slice;
+        private final int from;
+        private final int to;
+
+        SliceTask(Slice slice, int from, int to) {
+            this.slice = slice;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                return slice.convert(from, to);
+            }
+            int mid = (from + to) >>> 1;
+            SliceTask left = new SliceTask(slice, from, mid);
+            left.fork();
+            int right = new SliceTask(slice, mid, to).compute();
+            return left.join() + right;
+        }
+    }
+}
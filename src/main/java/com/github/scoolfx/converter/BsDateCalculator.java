@@ -0,0 +1,198 @@
+package com.github.scoolfx.converter;
+
+import com.github.scoolfx.exception.NepaliCalendarException;
+import com.github.scoolfx.model.BsDate;
+import com.github.scoolfx.model.PackedBsDate;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Calendar arithmetic on {@link BsDate} values.
+ * <p>
+ * Every operation works on the per-month start-day and length tables of the
+ * {@link CalendarData} snapshot, so it costs O(1) regardless of the distance
+ * travelled and never goes through {@link java.time.LocalDate}. Results are the
+ * shared {@code BsDate} instances also returned by {@link NepaliDateConverter#toBs}.
+ * Month and year arithmetic clamps the day to the last day of the resulting month.
+ */
+public class BsDateCalculator {
+
+    private final AtomicReference<CalendarData> data;
+
+    /**
+     * Initializes a calculator backed by the shared calendar data in {@link CalendarDataRegistry}.
+     *
+     * @throws NepaliCalendarException with {@code DATA_LOAD_ERROR} if the internal data file is missing or corrupted.
+     */
+    public BsDateCalculator() {
+        this.data = CalendarDataRegistry.reference();
+    }
+
+    /**
+     * Initializes a calculator pinned to the given calendar data snapshot.
+     *
+     * @param data The calendar data to calculate with.
+     */
+    public BsDateCalculator(CalendarData data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Calendar data must not be null");
+        }
+        this.data = new AtomicReference<>(data);
+    }
+
+    /**
+     * Adds the given number of days, which may be negative.
+     *
+     * @throws NepaliCalendarException if the date is invalid or the result is outside the supported range.
+     */
+    public BsDate plusDays(BsDate date, long days) {
+        CalendarTable table = table();
+        return toBsDate(table, Math.addExact(epochDay(table, date), days));
+    }
+
+    /**
+     * Adds the given number of months, which may be negative, clamping the day to the end of the month.
+     *
+     * @throws NepaliCalendarException if the date is invalid or the result is outside the supported range.
+     */
+    public BsDate plusMonths(BsDate date, long months) {
+        CalendarTable table = table();
+        epochDay(table, date);
+        return toBsDate(table, addMonths(table, date.year(), date.month().getValue(), date.day(), months));
+    }
+
+    /**
+     * Adds the given number of years, which may be negative, clamping the day to the end of the month.
+     *
+     * @throws NepaliCalendarException if the date is invalid or the result is outside the supported range.
+     */
+    public BsDate plusYears(BsDate date, long years) {
+        return plusMonths(date, Math.multiplyExact(years, 12));
+    }
+
+    /**
+     * Returns the number of days from {@code startInclusive} to {@code endExclusive}; negative if the end is earlier.
+     *
+     * @throws NepaliCalendarException if either date is invalid.
+     */
+    public long daysBetween(BsDate startInclusive, BsDate endExclusive) {
+        CalendarTable table = table();
+        return epochDay(table, endExclusive) - epochDay(table, startInclusive);
+    }
+
+    /**
+     * Returns the number of complete months from {@code startInclusive} to {@code endExclusive},
+     * following the same rules as {@link java.time.temporal.ChronoUnit#MONTHS}.
+     *
+     * @throws NepaliCalendarException if either date is invalid.
+     */
+    public long monthsBetween(BsDate startInclusive, BsDate endExclusive) {
+        CalendarTable table = table();
+        epochDay(table, startInclusive);
+        epochDay(table, endExclusive);
+        long start = prolepticMonth(startInclusive.year(), startInclusive.month().getValue()) * 32L
+                + startInclusive.day();
+        long end = prolepticMonth(endExclusive.year(), endExclusive.month().getValue()) * 32L
+                + endExclusive.day();
+        return (end - start) / 32;
+    }
+
+    /**
+     * Returns the first day of the month containing the given date.
+     *
+     * @throws NepaliCalendarException if the date is invalid.
+     */
+    public BsDate firstDayOfMonth(BsDate date) {
+        CalendarTable table = table();
+        epochDay(table, date);
+        return table.bsDate(table.monthStart(date.year(), date.month().getValue()));
+    }
+
+    /**
+     * Returns the last day of the month containing the given date.
+     *
+     * @throws NepaliCalendarException if the date is invalid.
+     */
+    public BsDate lastDayOfMonth(BsDate date) {
+        CalendarTable table = table();
+        epochDay(table, date);
+        int year = date.year();
+        int month = date.month().getValue();
+        return table.bsDate(table.monthStart(year, month) + table.monthLength(year, month) - 1);
+    }
+
+    /**
+     * Packed-date variant of {@link #plusDays(BsDate, long)} that does not allocate.
+     *
+     * @param packed A date encoded as described in {@link PackedBsDate}.
+     * @return The resulting packed date.
+     */
+    public int plusDaysPacked(int packed, long days) {
+        CalendarTable table = table();
+        long epochDay = NepaliDateConverter.toEpochDay(table, PackedBsDate.year(packed),
+                PackedBsDate.month(packed), PackedBsDate.day(packed));
+        return toPacked(table, Math.addExact(epochDay, days));
+    }
+
+    /**
+     * Packed-date variant of {@link #plusMonths(BsDate, long)} that does not allocate.
+     *
+     * @param packed A date encoded as described in {@link PackedBsDate}.
+     * @return The resulting packed date.
+     */
+    public int plusMonthsPacked(int packed, long months) {
+        CalendarTable table = table();
+        int year = PackedBsDate.year(packed);
+        int month = PackedBsDate.month(packed);
+        int day = PackedBsDate.day(packed);
+        NepaliDateConverter.toEpochDay(table, year, month, day);
+        return toPacked(table, addMonths(table, year, month, day, months));
+    }
+
+    private CalendarTable table() {
+        return data.get().table();
+    }
+
+    private static long epochDay(CalendarTable table, BsDate date) {
+        return NepaliDateConverter.toEpochDay(table, date.year(), date.month().getValue(), date.day());
+    }
+
+    private static long prolepticMonth(int year, int month) {
+        return year * 12L + month - 1;
+    }
+
+    /**
+     * Moves a valid date by whole months and returns the epoch day of the (clamped) result.
+     */
+    private static long addMonths(CalendarTable table, int year, int month, int day, long months) {
+        long target = Math.addExact(prolepticMonth(year, month), months);
+        long targetYear = Math.floorDiv(target, 12);
+        if (targetYear < table.minYear() || targetYear > table.maxYear()) {
+            throw outOfRange();
+        }
+        int newYear = (int) targetYear;
+        int newMonth = Math.floorMod(target, 12) + 1;
+        return table.monthStart(newYear, newMonth) + Math.min(day, table.monthLength(newYear, newMonth)) - 1;
+    }
+
+    private static BsDate toBsDate(CalendarTable table, long epochDay) {
+        BsDate result = table.bsDate(epochDay);
+        if (result == null) {
+            throw outOfRange();
+        }
+        return result;
+    }
+
+    private static int toPacked(CalendarTable table, long epochDay) {
+        int result = table.lookup(epochDay);
+        if (result == 0) {
+            throw outOfRange();
+        }
+        return result;
+    }
+
+    private static NepaliCalendarException outOfRange() {
+        return new NepaliCalendarException("Result is outside the supported B.S. range.",
+                NepaliCalendarException.ErrorCode.OUT_OF_RANGE);
+    }
+}
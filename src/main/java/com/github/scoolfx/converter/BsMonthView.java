@@ -0,0 +1,144 @@
+package com.github.scoolfx.converter;
+
+import com.github.scoolfx.exception.NepaliCalendarException;
+import com.github.scoolfx.model.BsDate;
+import com.github.scoolfx.model.BsMonth;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * A B.S. month laid out as a calendar grid of weeks by weekdays, with the A.D. date of every day.
+ * <p>
+ * Weeks start on {@link #WEEK_START Sunday}, as on Nepali wall calendars. Week {@code 0} holds day 1 in
+ * column {@link #getWeekdayOffset()}; cells before day 1 and after the last day are empty. Views are
+ * built once per month and calendar data snapshot by {@link NepaliDateConverter#monthView(int, BsMonth)}
+ * and then shared, so they are immutable and every date they return is precomputed.
+ */
+public final class BsMonthView {
+
+    /**
+     * The weekday of column {@code 0}.
+     */
+    public static final DayOfWeek WEEK_START = DayOfWeek.SUNDAY;
+
+    public static final int DAYS_PER_WEEK = 7;
+
+    private final int year;
+    private final BsMonth month;
+    private final long firstEpochDay;
+    private final int weekdayOffset;
+    private final int weekCount;
+    private final BsDate[] bsDates;
+    private final LocalDate[] adDates;
+
+    /**
+     * Builds the view of the given month. The year must satisfy {@link CalendarTable#containsYear(int)}.
+     */
+    BsMonthView(CalendarTable table, int year, int month) {
+        this.year = year;
+        this.month = BsMonth.fromValue(month);
+        this.firstEpochDay = table.monthStart(year, month);
+        // Epoch day 0 was a Thursday, column 4 of a week starting on Sunday
+        this.weekdayOffset = Math.floorMod(firstEpochDay + 4, DAYS_PER_WEEK);
+        int length = table.monthLength(year, month);
+        this.weekCount = (weekdayOffset + length + DAYS_PER_WEEK - 1) / DAYS_PER_WEEK;
+        this.bsDates = new BsDate[length];
+        this.adDates = new LocalDate[length];
+        for (int i = 0; i < length; i++) {
+            bsDates[i] = table.bsDate(firstEpochDay + i);
+            adDates[i] = LocalDate.ofEpochDay(firstEpochDay + i);
+        }
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public BsMonth getMonth() {
+        return month;
+    }
+
+    /**
+     * Returns the number of days in the month.
+     */
+    public int getLength() {
+        return bsDates.length;
+    }
+
+    /**
+     * Returns the number of empty cells before day 1 in the first week, from {@code 0} to {@code 6}.
+     */
+    public int getWeekdayOffset() {
+        return weekdayOffset;
+    }
+
+    /**
+     * Returns the weekday of day 1.
+     */
+    public DayOfWeek getFirstDayOfWeek() {
+        return WEEK_START.plus(weekdayOffset);
+    }
+
+    /**
+     * Returns the number of weeks (grid rows) the month spans, {@code 5} or {@code 6}.
+     */
+    public int getWeekCount() {
+        return weekCount;
+    }
+
+    /**
+     * Returns the epoch day of day 1.
+     */
+    public long getFirstEpochDay() {
+        return firstEpochDay;
+    }
+
+    /**
+     * Returns the day of the month shown in the given cell, or {@code 0} if the cell is empty.
+     *
+     * @param week   The row, from {@code 0} to {@link #getWeekCount()} - 1.
+     * @param column The column, from {@code 0} ({@link #WEEK_START}) to {@code 6}.
+     * @throws IndexOutOfBoundsException if the cell is outside the grid.
+     */
+    public int dayAt(int week, int column) {
+        Objects.checkIndex(week, weekCount);
+        Objects.checkIndex(column, DAYS_PER_WEEK);
+        int day = week * DAYS_PER_WEEK + column - weekdayOffset + 1;
+        return day >= 1 && day <= bsDates.length ? day : 0;
+    }
+
+    /**
+     * Returns the B.S. date of the given day of the month. The instance is the shared one also
+     * returned by {@link NepaliDateConverter#toBs(LocalDate)}.
+     *
+     * @throws NepaliCalendarException with {@code INVALID_BS_DATE} if the month has no such day.
+     */
+    public BsDate getBsDate(int day) {
+        return bsDates[index(day)];
+    }
+
+    /**
+     * Returns the A.D. date of the given day of the month.
+     *
+     * @throws NepaliCalendarException with {@code INVALID_BS_DATE} if the month has no such day.
+     */
+    public LocalDate getAdDate(int day) {
+        return adDates[index(day)];
+    }
+
+    private int index(int day) {
+        if (day < 1 || day > bsDates.length) {
+            throw new NepaliCalendarException(NepaliCalendarException.ErrorCode.INVALID_BS_DATE,
+                    "Day {} does not exist in {} {}", day, month.getName(), year);
+        }
+        return day - 1;
+    }
+
+    @Override
+    public String toString() {
+        return "BsMonthView[" + year + " " + month.getName() + ", " + bsDates.length + " days from " + adDates[0]
+                + ", starting " + getFirstDayOfWeek() + "]";
+    }
+}
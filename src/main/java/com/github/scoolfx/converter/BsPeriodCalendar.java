@@ -0,0 +1,259 @@
+package com.github.scoolfx.converter;
+
+import com.github.scoolfx.exception.NepaliCalendarException;
+import com.github.scoolfx.model.BsDate;
+import com.github.scoolfx.model.BsPeriod;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+import java.util.stream.LongStream;
+
+/**
+ * Maps A.D. days to B.S. months, fiscal quarters and fiscal years ({@link BsPeriod}) and
+ * aggregates records per period.
+ * <p>
+ * A day's period comes from the same per-day table {@link NepaliDateConverter} uses, and aggregation
+ * reads a precomputed per-day period index built once per calendar data snapshot and period type,
+ * so neither allocates per record. Period boundaries come from the per-month start table.
+ * The aggregation methods count records and sum a {@code long} value per period into
+ * {@link PeriodTotals}, allocating one set of buckets per call (or per fork-join leaf) rather
+ * than anything per record. Sums are integers so parallel results are exact and repeatable;
+ * aggregate money in its smallest unit (e.g. paisa).
+ */
+public class BsPeriodCalendar {
+
+    /**
+     * Slices at or below this many records are aggregated on the calling thread. Larger than
+     * {@link BatchConversion#PARALLEL_THRESHOLD} because each leaf allocates its own buckets.
+     */
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    private final AtomicReference<CalendarData> data;
+
+    /**
+     * Initializes a period calendar backed by the shared calendar data in {@link CalendarDataRegistry}.
+     *
+     * @throws NepaliCalendarException with {@code DATA_LOAD_ERROR} if the internal data file is missing or corrupted.
+     */
+    public BsPeriodCalendar() {
+        this.data = CalendarDataRegistry.reference();
+    }
+
+    /**
+     * Initializes a period calendar pinned to the given calendar data snapshot.
+     *
+     * @param data The calendar data to use.
+     */
+    public BsPeriodCalendar(CalendarData data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Calendar data must not be null");
+        }
+        this.data = new AtomicReference<>(data);
+    }
+
+    /**
+     * Returns the id of the period containing the given A.D. day.
+     *
+     * @throws NepaliCalendarException with {@code OUT_OF_RANGE} if the day is outside the supported range.
+     */
+    public int periodId(BsPeriod period, long epochDay) {
+        int packed = table().lookup(epochDay);
+        if (packed == 0) {
+            throw new NepaliCalendarException(NepaliCalendarException.ErrorCode.OUT_OF_RANGE,
+                    "Epoch day {} is outside the supported range.", epochDay);
+        }
+        return period.idOfPacked(packed);
+    }
+
+    /**
+     * Returns the id of the period containing the given B.S. date.
+     *
+     * @throws NepaliCalendarException if the date is invalid or unsupported.
+     */
+    public int periodId(BsPeriod period, BsDate date) {
+        NepaliDateConverter.toEpochDay(table(), date.year(), date.month().getValue(), date.day());
+        return period.idOf(date);
+    }
+
+    /**
+     * Returns the id of the first period overlapping the supported range.
+     */
+    public int firstPeriodId(BsPeriod period) {
+        CalendarTable table = table();
+        return period.idOfPacked(table.lookup(table.minEpochDay()));
+    }
+
+    /**
+     * Returns the id of the last period overlapping the supported range.
+     */
+    public int lastPeriodId(BsPeriod period) {
+        CalendarTable table = table();
+        return period.idOfPacked(table.lookup(table.maxEpochDay()));
+    }
+
+    /**
+     * Returns the epoch day the given period starts on. For the first period the result is
+     * the first supported day, which may be later than the period's true start.
+     *
+     * @throws NepaliCalendarException with {@code OUT_OF_RANGE} if the period is outside the supported range.
+     */
+    public long periodStart(BsPeriod period, int id) {
+        CalendarTable table = table();
+        int firstMonth = period.startYear(id) * 12 + period.startMonth(id).getValue() - 1;
+        for (int i = 0; i < period.getMonths(); i++) {
+            int year = Math.floorDiv(firstMonth + i, 12);
+            if (table.containsYear(year)) {
+                return table.monthStart(year, Math.floorMod(firstMonth + i, 12) + 1);
+            }
+        }
+        throw periodOutOfRange(period, id);
+    }
+
+    /**
+     * Returns the epoch day the given period ends on, inclusive. For the last period the result is
+     * the last supported day, which may be earlier than the period's true end.
+     *
+     * @throws NepaliCalendarException with {@code OUT_OF_RANGE} if the period is outside the supported range.
+     */
+    public long periodEnd(BsPeriod period, int id) {
+        CalendarTable table = table();
+        int firstMonth = period.startYear(id) * 12 + period.startMonth(id).getValue() - 1;
+        for (int i = period.getMonths() - 1; i >= 0; i--) {
+            int year = Math.floorDiv(firstMonth + i, 12);
+            if (table.containsYear(year)) {
+                int month = Math.floorMod(firstMonth + i, 12) + 1;
+                return table.monthStart(year, month) + table.monthLength(year, month) - 1;
+            }
+        }
+        throw periodOutOfRange(period, id);
+    }
+
+    /**
+     * Counts the given A.D. days per period. The sums of the result are {@code 0}.
+     */
+    public PeriodTotals aggregate(BsPeriod period, long[] epochDays) {
+        return aggregate(table(), period, epochDays, null, 0, epochDays.length);
+    }
+
+    /**
+     * Counts records and sums their values per period; record {@code i} is on day {@code epochDays[i]}
+     * with value {@code values[i]}.
+     *
+     * @throws IllegalArgumentException if {@code values} is shorter than {@code epochDays}.
+     */
+    public PeriodTotals aggregate(BsPeriod period, long[] epochDays, long[] values) {
+        BatchConversion.checkLengths(epochDays.length, values.length);
+        return aggregate(table(), period, epochDays, values, 0, epochDays.length);
+    }
+
+    /**
+     * Same as {@link #aggregate(BsPeriod, long[])}, but splits large inputs across the common fork-join pool.
+     */
+    public PeriodTotals aggregateParallel(BsPeriod period, long[] epochDays) {
+        return aggregateParallel(table(), period, epochDays, null);
+    }
+
+    /**
+     * Same as {@link #aggregate(BsPeriod, long[], long[])}, but splits large inputs across the common fork-join pool.
+     */
+    public PeriodTotals aggregateParallel(BsPeriod period, long[] epochDays, long[] values) {
+        BatchConversion.checkLengths(epochDays.length, values.length);
+        return aggregateParallel(table(), period, epochDays, values);
+    }
+
+    /**
+     * Counts the A.D. days of the given stream per period. Parallel streams are combined per
+     * split, not per element. The sums of the result are {@code 0}.
+     */
+    public PeriodTotals aggregate(BsPeriod period, LongStream epochDays) {
+        CalendarTable table = table();
+        return epochDays.collect(() -> new PeriodTotals(table, period),
+                (totals, epochDay) -> totals.add(epochDay, 0),
+                PeriodTotals::merge);
+    }
+
+    /**
+     * Returns a collector that counts records and sums their values per period, for streams of
+     * arbitrary record types. The collector uses the calendar data current when this method is called.
+     *
+     * @param epochDay Extracts the A.D. day of a record.
+     * @param value    Extracts the value to sum.
+     */
+    public <T> Collector<T, ?, PeriodTotals> toPeriodTotals(BsPeriod period, ToLongFunction<? super T> epochDay,
+                                                            ToLongFunction<? super T> value) {
+        CalendarTable table = table();
+        return Collector.of(() -> new PeriodTotals(table, period),
+                (totals, record) -> totals.add(epochDay.applyAsLong(record), value.applyAsLong(record)),
+                PeriodTotals::merge,
+                Collector.Characteristics.UNORDERED);
+    }
+
+    private CalendarTable table() {
+        return data.get().table();
+    }
+
+    /**
+     * Aggregates {@code [from, to)}; {@code values} may be {@code null} to count only.
+     */
+    private static PeriodTotals aggregate(CalendarTable table, BsPeriod period, long[] epochDays, long[] values,
+                                          int from, int to) {
+        PeriodTotals totals = new PeriodTotals(table, period);
+        if (values == null) {
+            for (int i = from; i < to; i++) {
+                totals.add(epochDays[i], 0);
+            }
+        } else {
+            for (int i = from; i < to; i++) {
+                totals.add(epochDays[i], values[i]);
+            }
+        }
+        return totals;
+    }
+
+    private static PeriodTotals aggregateParallel(CalendarTable table, BsPeriod period, long[] epochDays,
+                                                  long[] values) {
+        if (epochDays.length <= PARALLEL_THRESHOLD) {
+            return aggregate(table, period, epochDays, values, 0, epochDays.length);
+        }
+        return ForkJoinPool.commonPool().invoke(new AggregateTask(table, period, epochDays, values, 0, epochDays.length));
+    }
+
+    private static NepaliCalendarException periodOutOfRange(BsPeriod period, int id) {
+        return new NepaliCalendarException(NepaliCalendarException.ErrorCode.OUT_OF_RANGE,
+                "Period {} is outside the supported range.", period.label(id));
+    }
+
+    private static final class AggregateTask extends RecursiveTask<PeriodTotals> {
+
+        private final CalendarTable table;
+        private final BsPeriod period;
+        private final long[] epochDays;
+        private final long[] values;
+        private final int from;
+        private final int to;
+
+        AggregateTask(CalendarTable table, BsPeriod period, long[] epochDays, long[] values, int from, int to) {
+            this.table = table;
+            this.period = period;
+            this.epochDays = epochDays;
+            this.values = values;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected PeriodTotals compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                return aggregate(table, period, epochDays, values, from, to);
+            }
+            int mid = (from + to) >>> 1;
+            AggregateTask left = new AggregateTask(table, period, epochDays, values, from, mid);
+            left.fork();
+            PeriodTotals right = new AggregateTask(table, period, epochDays, values, mid, to).compute();
+            return right.merge(left.join());
+        }
+    }
+}
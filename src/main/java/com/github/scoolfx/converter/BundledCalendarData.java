@@ -0,0 +1,79 @@
+package com.github.scoolfx.converter;
+
+import com.github.scoolfx.exception.NepaliCalendarException;
+import com.github.scoolfx.metrics.DataLoadMetrics;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The snapshot of the calendar data bundled with the SDK, built by the class initializer.
+ * <p>
+ * On the JVM the class is initialized on first use, so the data is still loaded lazily and only once.
+ * Native images initialize it at image build time (see {@code META-INF/native-image}), which stores the
+ * finished lookup tables in the image heap: a native executable converts dates without reading,
+ * decoding or validating any resource at startup. A failed load is kept and reported again on every
+ * call, since the bundled resource cannot change while the process runs.
+ * <p>
+ * The initializer must not touch {@link DataLoadMetrics}, whose sink and Flight Recorder state belong
+ * to the running process, so the load is reported by the first {@link #get()} instead. In a native
+ * image nothing is reported: the data comes from the image heap and no load happens in the process.
+ */
+final class BundledCalendarData {
+
+    private static final String SOURCE;
+    private static final CalendarData DATA;
+    private static final NepaliCalendarException FAILURE;
+    private static final long LOAD_NANOS;
+    /**
+     * Whether the initializer ran while a native image was being built; GraalVM sets this property.
+     */
+    private static final boolean IMAGE_HEAP =
+            "buildtime".equals(System.getProperty("org.graalvm.nativeimage.imagecode"));
+    private static final AtomicBoolean REPORTED = new AtomicBoolean();
+
+    static {
+        CalendarDataSource source = CalendarDataSource.classpath();
+        CalendarData data = null;
+        NepaliCalendarException failure = null;
+        long start = System.nanoTime();
+        try {
+            data = CalendarData.loadUnrecorded(source);
+        } catch (NepaliCalendarException e) {
+            failure = e;
+        }
+        LOAD_NANOS = System.nanoTime() - start;
+        SOURCE = String.valueOf(source);
+        DATA = data;
+        FAILURE = failure;
+    }
+
+    private BundledCalendarData() {
+    }
+
+    /**
+     * Returns the bundled snapshot.
+     *
+     * @throws NepaliCalendarException with {@code DATA_LOAD_ERROR} if the bundled data could not be loaded.
+     */
+    static CalendarData get() {
+        if (!IMAGE_HEAP && !REPORTED.get() && REPORTED.compareAndSet(false, true)) {
+            report();
+        }
+        if (FAILURE != null) {
+            // A fresh exception per call, so stack traces point at the caller and nothing accumulates on the cause
+            throw new NepaliCalendarException(FAILURE.getMessage(), NepaliCalendarException.ErrorCode.DATA_LOAD_ERROR,
+                    FAILURE);
+        }
+        return DATA;
+    }
+
+    private static void report() {
+        // DataLoadMetrics measures from a start time; shift it so the reported duration is the recorded one
+        long start = System.nanoTime() - LOAD_NANOS;
+        if (FAILURE != null) {
+            DataLoadMetrics.failed(SOURCE, FAILURE.getErrorCode(), start);
+        } else {
+            DataLoadMetrics.loaded(SOURCE, DATA.getMinYear(), DATA.getMaxYear(), start);
+        }
+    }
+}
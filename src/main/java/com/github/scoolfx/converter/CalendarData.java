@@ -0,0 +1,142 @@
+package com.github.scoolfx.converter;
+
+import com.github.scoolfx.exception.NepaliCalendarException;
+import com.github.scoolfx.metrics.DataLoadMetrics;
+import com.github.scoolfx.model.InternalYearData;
+
+import java.time.LocalDate;
+
+/**
+ * An immutable, validated snapshot of the calendar data together with its lookup tables.
+ * <p>
+ * A snapshot is built once and can be shared by any number of {@link NepaliDateConverter}
+ * instances and threads. Converters created with the no-argument constructor follow the
+ * snapshot published in {@link CalendarDataRegistry}, so newly published years become
+ * visible to them without a restart.
+ */
+public final class CalendarData {
+
+    private final CalendarTable table;
+
+    private CalendarData(CalendarTable table) {
+        this.table = table;
+    }
+
+    /**
+     * Loads and validates calendar data from the given source.
+     *
+     * @param source Where to read the data from.
+     * @return The new snapshot.
+     * @throws NepaliCalendarException with {@code DATA_LOAD_ERROR} if the data cannot be read or is invalid.
+     * @see DataLoadMetrics
+     */
+    public static CalendarData load(CalendarDataSource source) {
+        long start = System.nanoTime();
+        try {
+            CalendarData data = loadUnrecorded(source);
+            DataLoadMetrics.loaded(String.valueOf(source), data.getMinYear(), data.getMaxYear(), start);
+            return data;
+        } catch (NepaliCalendarException e) {
+            DataLoadMetrics.failed(String.valueOf(source), e.getErrorCode(), start);
+            throw e;
+        }
+    }
+
+    /**
+     * Same as {@link #load}, but reports nothing to {@link DataLoadMetrics}.
+     */
+    static CalendarData loadUnrecorded(CalendarDataSource source) {
+        return of(read(source));
+    }
+
+    private static InternalYearData[] read(CalendarDataSource source) {
+        try {
+            return source.load();
+        } catch (NepaliCalendarException e) {
+            throw e;
+        } catch (Exception | LinkageError e) {
+            throw new NepaliCalendarException("Failed to initialize Nepali Calendar Data",
+                    NepaliCalendarException.ErrorCode.DATA_LOAD_ERROR, e);
+        }
+    }
+
+    /**
+     * Validates the given year configurations and builds a snapshot from them.
+     *
+     * @param years Consecutive B.S. years in ascending order.
+     * @return The new snapshot.
+     * @throws NepaliCalendarException with {@code DATA_LOAD_ERROR} if the years are invalid.
+     */
+    public static CalendarData of(InternalYearData... years) {
+        CalendarDataFormat.validate(years);
+        return new CalendarData(new CalendarTable(years));
+    }
+
+    CalendarTable table() {
+        return table;
+    }
+
+    /**
+     * Returns the first supported B.S. year.
+     */
+    public int getMinYear() {
+        return table.minYear();
+    }
+
+    /**
+     * Returns the last supported B.S. year.
+     */
+    public int getMaxYear() {
+        return table.maxYear();
+    }
+
+    /**
+     * Returns the number of days in the given B.S. month.
+     *
+     * @param year  The B.S. year.
+     * @param month The B.S. month (1-12).
+     * @throws NepaliCalendarException if the year is unsupported or the month is invalid.
+     */
+    public int getMonthLength(int year, int month) {
+        checkYear(year);
+        if (month < 1 || month > 12) {
+            throw new NepaliCalendarException("Invalid month " + month,
+                    NepaliCalendarException.ErrorCode.INVALID_BS_DATE);
+        }
+        return table.monthLength(year, month);
+    }
+
+    /**
+     * Returns the number of days in the given B.S. year.
+     *
+     * @param year The B.S. year.
+     * @throws NepaliCalendarException if the year is unsupported.
+     */
+    public int getYearLength(int year) {
+        checkYear(year);
+        return (int) (table.monthStart(year, 12) + table.monthLength(year, 12) - table.monthStart(year, 1));
+    }
+
+    private void checkYear(int year) {
+        if (!table.containsYear(year)) {
+            throw new NepaliCalendarException(
+                    "B.S. Year " + year + " is not supported by the current data file.",
+                    NepaliCalendarException.ErrorCode.OUT_OF_RANGE
+            );
+        }
+    }
+
+    /**
+     * Returns the minimum supported Gregorian (A.D.) date.
+     */
+    public LocalDate getMinSupportedAdDate() {
+        return LocalDate.ofEpochDay(table.minEpochDay());
+    }
+
+    /**
+     * Returns the maximum supported Gregorian (A.D.) date.
+     */
+    public LocalDate getMaxSupportedAdDate() {
+        return LocalDate.ofEpochDay(table.maxEpochDay());
+    }
+}
@@ -0,0 +1,43 @@
+package com.github.scoolfx.converter;
+
+import com.github.scoolfx.model.InternalYearData;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Build-time tool that validates {@code nepali-calendar-data.json} and compiles it
+ * into the binary resource loaded by {@link NepaliDateConverter}.
+ * <p>
+ * Invoked by the build during {@code process-classes}:
+ * {@code CalendarDataCompiler <input.json> <output.bin>}.
+ */
+public final class CalendarDataCompiler {
+
+    private CalendarDataCompiler() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: CalendarDataCompiler <input.json> <output.bin>");
+        }
+        Path input = Path.of(args[0]);
+        Path output = Path.of(args[1]);
+
+        InternalYearData[] years;
+        try (InputStream in = Files.newInputStream(input)) {
+            years = JsonCalendarData.read(in);
+        }
+        CalendarDataFormat.validate(years);
+
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        try (OutputStream out = Files.newOutputStream(output)) {
+            CalendarDataFormat.write(years, out);
+        }
+        System.out.println("Compiled " + years.length + " B.S. years (" + years[0].year() + "-"
+                + years[years.length - 1].year() + ") into " + output);
+    }
+}
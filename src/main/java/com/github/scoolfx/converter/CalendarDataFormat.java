@@ -0,0 +1,141 @@
+package com.github.scoolfx.converter;
+
+import com.github.scoolfx.exception.NepaliCalendarException;
+import com.github.scoolfx.model.InternalYearData;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDate;
+
+/**
+ * Compact binary encoding of the calendar data, produced at build time by {@link CalendarDataCompiler}.
+ * <p>
+ * Layout (big-endian):
+ * <pre>
+ * int    magic            'NPCD'
+ * byte   version          1
+ * short  firstYear        B.S. year of the first entry
+ * short  yearCount        number of consecutive years
+ * int    firstStartDay    epoch day of Baisakh 1 of the first year
+ * byte[] monthLengths     yearCount * 12 month lengths
+ * </pre>
+ * Start dates of later years are derived from the month lengths, which is why
+ * {@link #validate(InternalYearData[])} requires the years to be contiguous.
+ */
+final class CalendarDataFormat {
+
+    static final String RESOURCE = "/nepali-calendar-data.bin";
+
+    private static final int MAGIC = 0x4E504344;
+    private static final byte VERSION = 1;
+
+    private CalendarDataFormat() {
+    }
+
+    /**
+     * Peeks at the header of the stream without consuming it.
+     */
+    static boolean isBinary(BufferedInputStream in) throws IOException {
+        in.mark(4);
+        try {
+            int magic = 0;
+            for (int i = 0; i < 4; i++) {
+                int b = in.read();
+                if (b < 0) {
+                    return false;
+                }
+                magic = (magic << 8) | b;
+            }
+            return magic == MAGIC;
+        } finally {
+            in.reset();
+        }
+    }
+
+    static InternalYearData[] read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a calendar data file");
+        }
+        byte version = data.readByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported calendar data version " + version);
+        }
+        int firstYear = data.readShort();
+        int yearCount = data.readShort();
+        long startDay = data.readInt();
+
+        InternalYearData[] years = new InternalYearData[yearCount];
+        for (int i = 0; i < yearCount; i++) {
+            int[] monthLengths = new int[12];
+            int total = 0;
+            for (int month = 0; month < 12; month++) {
+                monthLengths[month] = data.readUnsignedByte();
+                total += monthLengths[month];
+            }
+            years[i] = new InternalYearData(firstYear + i, LocalDate.ofEpochDay(startDay), monthLengths);
+            startDay += total;
+        }
+        return years;
+    }
+
+    static void write(InternalYearData[] years, OutputStream out) throws IOException {
+        validate(years);
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        data.writeShort(years[0].year());
+        data.writeShort(years.length);
+        data.writeInt(Math.toIntExact(years[0].startDate().toEpochDay()));
+        for (InternalYearData year : years) {
+            for (int length : year.monthLengths()) {
+                data.writeByte(length);
+            }
+        }
+        data.flush();
+    }
+
+    /**
+     * Checks that the years are consecutive, each has 12 plausible month lengths, and
+     * each year starts the day after the previous one ends.
+     *
+     * @throws NepaliCalendarException with {@code DATA_LOAD_ERROR} describing the first problem found.
+     */
+    static void validate(InternalYearData[] years) {
+        if (years == null || years.length == 0) {
+            throw invalid("Calendar data contains no years");
+        }
+        for (int i = 0; i < years.length; i++) {
+            InternalYearData year = years[i];
+            if (year == null) {
+                throw invalid("Calendar data contains an empty entry");
+            }
+            if (year.startDate() == null || year.monthLengths() == null || year.monthLengths().length != 12) {
+                throw invalid("B.S. Year " + year.year() + " must have a start date and 12 month lengths");
+            }
+            for (int length : year.monthLengths()) {
+                if (length < 29 || length > 32) {
+                    throw invalid("B.S. Year " + year.year() + " has an invalid month length " + length);
+                }
+            }
+            if (i > 0) {
+                InternalYearData previous = years[i - 1];
+                if (year.year() != previous.year() + 1) {
+                    throw invalid("B.S. Year " + year.year() + " does not follow " + previous.year());
+                }
+                if (!year.startDate().equals(previous.endDate().plusDays(1))) {
+                    throw invalid("B.S. Year " + year.year() + " starts on " + year.startDate()
+                            + " but " + previous.year() + " ends on " + previous.endDate());
+                }
+            }
+        }
+    }
+
+    private static NepaliCalendarException invalid(String message) {
+        return new NepaliCalendarException(message, NepaliCalendarException.ErrorCode.DATA_LOAD_ERROR);
+    }
+}
@@ -0,0 +1,75 @@
+package com.github.scoolfx.converter;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Process-wide holder of the current {@link CalendarData} snapshot.
+ * <p>
+ * The bundled data is loaded once, on first use (or at image build time in a native image, see
+ * {@link BundledCalendarData}), and shared by every converter created
+ * with {@link NepaliDateConverter#NepaliDateConverter()}. Publishing a new snapshot
+ * (for example after the government announces years beyond the bundled range) is a
+ * single atomic reference swap: conversions already in flight finish on the snapshot
+ * they started with, and later conversions see the new one. Readers never block.
+ */
+public final class CalendarDataRegistry {
+
+    private static final AtomicReference<CalendarData> CURRENT = new AtomicReference<>();
+
+    private CalendarDataRegistry() {
+    }
+
+    /**
+     * Returns the snapshot currently in use, loading the bundled data if nothing has been published yet.
+     *
+     * @throws com.github.scoolfx.exception.NepaliCalendarException with {@code DATA_LOAD_ERROR}
+     *                                                              if the bundled data cannot be loaded.
+     */
+    public static CalendarData current() {
+        return reference().get();
+    }
+
+    /**
+     * Publishes the given snapshot to all converters that follow the registry.
+     *
+     * @param data The snapshot to publish.
+     * @return The snapshot that was replaced, or {@code null} if the bundled data had not been loaded yet.
+     */
+    public static CalendarData swap(CalendarData data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Calendar data must not be null");
+        }
+        return CURRENT.getAndSet(data);
+    }
+
+    /**
+     * Loads a snapshot from the given source and publishes it. If loading fails,
+     * the current snapshot stays in place.
+     *
+     * @param source Where to read the data from.
+     * @return The newly published snapshot.
+     * @throws com.github.scoolfx.exception.NepaliCalendarException with {@code DATA_LOAD_ERROR}
+     *                                                              if the data cannot be loaded.
+     */
+    public static CalendarData reload(CalendarDataSource source) {
+        CalendarData data = CalendarData.load(source);
+        CURRENT.set(data);
+        return data;
+    }
+
+    /**
+     * Returns the live reference, loading the bundled data on first use.
+     */
+    static AtomicReference<CalendarData> reference() {
+        if (CURRENT.get() == null) {
+            loadBundled();
+        }
+        return CURRENT;
+    }
+
+    private static synchronized void loadBundled() {
+        if (CURRENT.get() == null) {
+            CURRENT.compareAndSet(null, BundledCalendarData.get());
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.github.scoolfx.converter;
+
+import com.github.scoolfx.model.InternalYearData;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Where calendar year data comes from.
+ * <p>
+ * The built-in sources accept both the JSON format of {@code nepali-calendar-data.json}
+ * and the compact binary format compiled from it at build time; the format is detected
+ * from the content. Reading JSON requires Jackson on the classpath.
+ *
+ * @see CalendarData#load(CalendarDataSource)
+ */
+@FunctionalInterface
+public interface CalendarDataSource {
+
+    /**
+     * Reads the year configurations. Validation happens in {@link CalendarData#load(CalendarDataSource)}.
+     *
+     * @throws IOException if the data cannot be read.
+     */
+    InternalYearData[] load() throws IOException;
+
+    /**
+     * The data bundled with the SDK: the compiled binary resource, or the JSON resource if the
+     * binary one is not on the classpath.
+     */
+    static CalendarDataSource classpath() {
+        return CalendarDataSources.Classpath.INSTANCE;
+    }
+
+    /**
+     * A JSON or binary data file on disk. The file is read each time {@link #load()} is called.
+     */
+    static CalendarDataSource file(Path path) {
+        return new CalendarDataSources.FileSource(path);
+    }
+
+    /**
+     * JSON or binary data held in memory. The array is copied.
+     */
+    static CalendarDataSource bytes(byte[] data) {
+        return new CalendarDataSources.ByteSource(data.clone());
+    }
+}
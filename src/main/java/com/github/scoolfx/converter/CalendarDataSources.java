@@ -0,0 +1,83 @@
+package com.github.scoolfx.converter;
+
+import com.github.scoolfx.model.InternalYearData;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Built-in {@link CalendarDataSource} implementations.
+ */
+final class CalendarDataSources {
+
+    private CalendarDataSources() {
+    }
+
+    /**
+     * Reads either data format, detecting binary data by its header.
+     */
+    static InternalYearData[] read(InputStream in) throws IOException {
+        BufferedInputStream buffered = new BufferedInputStream(in);
+        if (CalendarDataFormat.isBinary(buffered)) {
+            return CalendarDataFormat.read(buffered);
+        }
+        return JsonCalendarData.read(buffered);
+    }
+
+    enum Classpath implements CalendarDataSource {
+        INSTANCE;
+
+        @Override
+        public InternalYearData[] load() throws IOException {
+            try (InputStream in = CalendarDataSources.class.getResourceAsStream(CalendarDataFormat.RESOURCE)) {
+                if (in != null) {
+                    return CalendarDataFormat.read(new BufferedInputStream(in));
+                }
+            }
+            try (InputStream in = CalendarDataSources.class.getResourceAsStream(JsonCalendarData.RESOURCE)) {
+                if (in == null) {
+                    throw new FileNotFoundException("Nepali Calendar Data resource not found");
+                }
+                return JsonCalendarData.read(in);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "classpath";
+        }
+    }
+
+    record FileSource(Path path) implements CalendarDataSource {
+
+        @Override
+        public InternalYearData[] load() throws IOException {
+            try (InputStream in = Files.newInputStream(path)) {
+                return read(in);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "file:" + path;
+        }
+    }
+
+    record ByteSource(byte[] data) implements CalendarDataSource {
+
+        @Override
+        public InternalYearData[] load() throws IOException {
+            return read(new ByteArrayInputStream(data));
+        }
+
+        @Override
+        public String toString() {
+            return "bytes[" + data.length + "]";
+        }
+    }
+}
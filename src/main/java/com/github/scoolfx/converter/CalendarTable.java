@@ -0,0 +1,196 @@
+package com.github.scoolfx.converter;
+
+import com.github.scoolfx.model.BsDate;
+import com.github.scoolfx.model.BsMonth;
+import com.github.scoolfx.model.BsPeriod;
+import com.github.scoolfx.model.InternalYearData;
+import com.github.scoolfx.model.PackedBsDate;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Dense lookup tables for both conversion directions.
+ * <p>
+ * The day table is indexed by {@code epochDay - minEpochDay}, so an A.D. to B.S.
+ * conversion is a range check plus a single array read. Each entry holds a
+ * {@link PackedBsDate}; an entry of {@code 0} marks a day not covered by the data file.
+ * The month tables are indexed by {@code (year - minYear) * 12 + (month - 1)} and hold
+ * the epoch day each month starts on and its length, which makes B.S. to A.D. O(1) as well.
+ */
+final class CalendarTable {
+
+    static final long INVALID_EPOCH_DAY = Long.MIN_VALUE;
+
+    private final long minEpochDay;
+    private final long maxEpochDay;
+    private final int minYear;
+    private final int maxYear;
+    private final int[] bsByDay;
+    private final long[] monthStart;
+    private final byte[] monthLength;
+
+    /**
+     * Canonical {@link BsDate} per supported day, filled lazily. Races only ever store
+     * equal immutable instances, so the array needs no synchronization.
+     */
+    private final BsDate[] canonical;
+
+    /**
+     * Per {@link BsPeriod}, the index of each supported day's period counted from the first
+     * period, built on first use by {@link #periodIndex(BsPeriod)}.
+     */
+    private final AtomicReferenceArray<char[]> periodIndex = new AtomicReferenceArray<>(BsPeriod.values().length);
+
+    /**
+     * Per month, indexed like the month tables, its {@link BsMonthView}, built on first use by
+     * {@link #monthView(int, int)}. Bounded by the number of supported months.
+     */
+    private final AtomicReferenceArray<BsMonthView> monthViews;
+
+    /**
+     * Builds the tables from consecutive years, as checked by {@link CalendarDataFormat#validate(InternalYearData[])}.
+     */
+    CalendarTable(InternalYearData[] years) {
+        if (years.length == 0) {
+            throw new IllegalArgumentException("Calendar data contains no years");
+        }
+        InternalYearData first = years[0];
+        InternalYearData last = years[years.length - 1];
+
+        this.minEpochDay = first.startDate().toEpochDay();
+        this.maxEpochDay = last.endDate().toEpochDay();
+        this.minYear = first.year();
+        this.maxYear = last.year();
+        this.bsByDay = new int[Math.toIntExact(maxEpochDay - minEpochDay + 1)];
+        this.canonical = new BsDate[bsByDay.length];
+        this.monthStart = new long[(maxYear - minYear + 1) * 12];
+        this.monthLength = new byte[monthStart.length];
+        this.monthViews = new AtomicReferenceArray<>(monthStart.length);
+
+        for (InternalYearData year : years) {
+            long epochDay = year.startDate().toEpochDay();
+            int index = (int) (epochDay - minEpochDay);
+            for (int month = 1; month <= 12; month++) {
+                int length = year.getMonthLength(month);
+                int monthIndex = (year.year() - minYear) * 12 + month - 1;
+                monthStart[monthIndex] = epochDay;
+                monthLength[monthIndex] = (byte) length;
+                for (int day = 1; day <= length; day++) {
+                    bsByDay[index++] = PackedBsDate.of(year.year(), month, day);
+                }
+                epochDay += length;
+            }
+        }
+    }
+
+    /**
+     * Returns the packed B.S. date for the given epoch day, or {@code 0} if the day is unsupported.
+     */
+    int lookup(long epochDay) {
+        if (epochDay < minEpochDay || epochDay > maxEpochDay) {
+            return 0;
+        }
+        return bsByDay[(int) (epochDay - minEpochDay)];
+    }
+
+    /**
+     * Returns the cached {@link BsDate} for the given epoch day, or {@code null} if the day is unsupported.
+     * Racing first calls for a day may each get their own, equal instance.
+     */
+    BsDate bsDate(long epochDay) {
+        int packed = lookup(epochDay);
+        if (packed == 0) {
+            return null;
+        }
+        int index = (int) (epochDay - minEpochDay);
+        BsDate date = canonical[index];
+        if (date == null) {
+            date = new BsDate(PackedBsDate.year(packed), BsMonth.fromValue(PackedBsDate.month(packed)),
+                    PackedBsDate.day(packed));
+            canonical[index] = date;
+        }
+        return date;
+    }
+
+    /**
+     * Returns, for every supported day (indexed like the day table), the index of its period
+     * counted from the period of the first supported day.
+     */
+    char[] periodIndex(BsPeriod period) {
+        char[] index = periodIndex.get(period.ordinal());
+        if (index == null) {
+            int firstId = period.idOfPacked(bsByDay[0]);
+            if (period.idOfPacked(bsByDay[bsByDay.length - 1]) - firstId > Character.MAX_VALUE) {
+                throw new IllegalStateException("Too many " + period + " periods for a char index");
+            }
+            char[] built = new char[bsByDay.length];
+            for (int i = 0; i < built.length; i++) {
+                built[i] = (char) (period.idOfPacked(bsByDay[i]) - firstId);
+            }
+            // Concurrent callers may build equal copies; only the first one published is handed out
+            char[] winner = periodIndex.compareAndExchange(period.ordinal(), null, built);
+            index = winner == null ? built : winner;
+        }
+        return index;
+    }
+
+    /**
+     * Returns the epoch day of the given B.S. date, or {@link #INVALID_EPOCH_DAY} if the year is
+     * unsupported or the month or day is out of bounds.
+     */
+    long epochDay(int year, int month, int day) {
+        if (!containsYear(year) || month < 1 || month > 12 || day < 1 || day > monthLength(year, month)) {
+            return INVALID_EPOCH_DAY;
+        }
+        return monthStart(year, month) + day - 1;
+    }
+
+    boolean containsYear(int year) {
+        return year >= minYear && year <= maxYear && monthLength[(year - minYear) * 12] != 0;
+    }
+
+    /**
+     * Returns the length of the given month. The year must satisfy {@link #containsYear(int)}.
+     */
+    int monthLength(int year, int month) {
+        return monthLength[(year - minYear) * 12 + month - 1];
+    }
+
+    /**
+     * Returns the epoch day of the first day of the given month. The year must satisfy {@link #containsYear(int)}.
+     */
+    long monthStart(int year, int month) {
+        return monthStart[(year - minYear) * 12 + month - 1];
+    }
+
+    /**
+     * Returns the shared view of the given month. The year must satisfy {@link #containsYear(int)}.
+     */
+    BsMonthView monthView(int year, int month) {
+        int monthIndex = (year - minYear) * 12 + month - 1;
+        BsMonthView view = monthViews.get(monthIndex);
+        if (view == null) {
+            // Concurrent callers may build equal views; only the first one published is handed out
+            BsMonthView built = new BsMonthView(this, year, month);
+            BsMonthView winner = monthViews.compareAndExchange(monthIndex, null, built);
+            view = winner == null ? built : winner;
+        }
+        return view;
+    }
+
+    long minEpochDay() {
+        return minEpochDay;
+    }
+
+    long maxEpochDay() {
+        return maxEpochDay;
+    }
+
+    int minYear() {
+        return minYear;
+    }
+
+    int maxYear() {
+        return maxYear;
+    }
+}
@@ -0,0 +1,82 @@
+package com.github.scoolfx.converter;
+
+import com.github.scoolfx.exception.NepaliCalendarException;
+
+import java.util.Optional;
+
+/**
+ * The outcome of a non-throwing conversion: either a value or the {@link NepaliCalendarException.ErrorCode}
+ * the throwing API would have reported.
+ * <p>
+ * Failed results are shared constants, so rejecting input allocates nothing.
+ *
+ * @param <T> The type of the converted value.
+ */
+public final class ConversionResult<T> {
+
+    private static final ConversionResult<?>[] FAILURES;
+
+    static {
+        NepaliCalendarException.ErrorCode[] codes = NepaliCalendarException.ErrorCode.values();
+        FAILURES = new ConversionResult<?>[codes.length];
+        for (NepaliCalendarException.ErrorCode code : codes) {
+            FAILURES[code.ordinal()] = new ConversionResult<>(null, code);
+        }
+    }
+
+    private final T value;
+    private final NepaliCalendarException.ErrorCode errorCode;
+
+    private ConversionResult(T value, NepaliCalendarException.ErrorCode errorCode) {
+        this.value = value;
+        this.errorCode = errorCode;
+    }
+
+    static <T> ConversionResult<T> success(T value) {
+        return new ConversionResult<>(value, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> ConversionResult<T> failure(NepaliCalendarException.ErrorCode errorCode) {
+        return (ConversionResult<T>) FAILURES[errorCode.ordinal()];
+    }
+
+    public boolean isSuccess() {
+        return errorCode == null;
+    }
+
+    /**
+     * Returns the converted value.
+     *
+     * @throws NepaliCalendarException with the result's error code if the conversion failed.
+     */
+    public T get() {
+        if (errorCode != null) {
+            throw new NepaliCalendarException(errorCode, "Conversion failed: {}", errorCode);
+        }
+        return value;
+    }
+
+    /**
+     * Returns the converted value, or {@code other} if the conversion failed.
+     */
+    public T orElse(T other) {
+        return errorCode == null ? value : other;
+    }
+
+    /**
+     * Returns why the conversion failed, or {@code null} if it succeeded.
+     */
+    public NepaliCalendarException.ErrorCode getErrorCode() {
+        return errorCode;
+    }
+
+    public Optional<T> toOptional() {
+        return Optional.ofNullable(value);
+    }
+
+    @Override
+    public String toString() {
+        return errorCode == null ? "ConversionResult[" + value + "]" : "ConversionResult[" + errorCode + "]";
+    }
+}
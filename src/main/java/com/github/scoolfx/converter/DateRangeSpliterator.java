@@ -0,0 +1,178 @@
+package com.github.scoolfx.converter;
+
+import com.github.scoolfx.model.BsDate;
+import com.github.scoolfx.model.PackedBsDate;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * Spliterators over a contiguous range of days.
+ * <p>
+ * The packed variant walks B.S. dates by stepping through the month lengths of a
+ * {@link CalendarTable} rather than converting each day; the object variant reads the
+ * table's shared {@link BsDate} instances directly by epoch day.
+ * <p>
+ * The range is {@code [epochDay, endEpochDay)}. Splitting halves the remaining range and
+ * re-seeks the suffix with a single table lookup, so splits are exact, balanced and O(1);
+ * every spliterator is {@code SIZED} and {@code SUBSIZED}.
+ */
+abstract class DateRangeSpliterator {
+
+    private static final int CHARACTERISTICS = Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.SORTED
+            | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE | Spliterator.NONNULL;
+
+    final CalendarTable table;
+    final long endEpochDay;
+    long epochDay;
+    private int year;
+    private int month;
+    private int day;
+    private int monthLength;
+
+    DateRangeSpliterator(CalendarTable table, long epochDay, long endEpochDay) {
+        this.table = table;
+        this.endEpochDay = endEpochDay;
+        seek(epochDay);
+    }
+
+    /**
+     * Moves the cursor to the given epoch day with a single table lookup.
+     */
+    final void seek(long target) {
+        epochDay = target;
+        if (target < endEpochDay) {
+            int packed = table.lookup(target);
+            year = PackedBsDate.year(packed);
+            month = PackedBsDate.month(packed);
+            day = PackedBsDate.day(packed);
+            monthLength = table.monthLength(year, month);
+        }
+    }
+
+    /**
+     * Returns the packed date at the cursor and moves to the next day.
+     */
+    final int nextPacked() {
+        int packed = PackedBsDate.of(year, month, day);
+        epochDay++;
+        if (++day > monthLength) {
+            day = 1;
+            if (++month > 12) {
+                month = 1;
+                year++;
+            }
+            if (epochDay < endEpochDay) {
+                monthLength = table.monthLength(year, month);
+            }
+        }
+        return packed;
+    }
+
+    /**
+     * Returns the midpoint of the remaining range, or {@code epochDay} if it is too small to split.
+     */
+    final long midpoint() {
+        return epochDay + (endEpochDay - epochDay) / 2;
+    }
+
+    public final long estimateSize() {
+        return endEpochDay - epochDay;
+    }
+
+    public final long getExactSizeIfKnown() {
+        return estimateSize();
+    }
+
+    public final int characteristics() {
+        return CHARACTERISTICS;
+    }
+
+    /**
+     * Packed dates; their natural {@code int} order is chronological.
+     */
+    static final class OfPacked extends DateRangeSpliterator implements Spliterator.OfInt {
+
+        OfPacked(CalendarTable table, long epochDay, long endEpochDay) {
+            super(table, epochDay, endEpochDay);
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if (epochDay >= endEpochDay) {
+                return false;
+            }
+            action.accept(nextPacked());
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            while (epochDay < endEpochDay) {
+                action.accept(nextPacked());
+            }
+        }
+
+        @Override
+        public OfPacked trySplit() {
+            long start = epochDay;
+            long mid = midpoint();
+            if (mid == start) {
+                return null;
+            }
+            seek(mid);
+            return new OfPacked(table, start, mid);
+        }
+
+        @Override
+        public Comparator<? super Integer> getComparator() {
+            return null;
+        }
+    }
+
+    /**
+     * Shared canonical {@link BsDate} instances, ordered chronologically.
+     */
+    static final class OfDates extends DateRangeSpliterator implements Spliterator<BsDate> {
+
+        private static final Comparator<BsDate> CHRONOLOGICAL = Comparator.comparingInt(PackedBsDate::of);
+
+        OfDates(CalendarTable table, long epochDay, long endEpochDay) {
+            super(table, epochDay, endEpochDay);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super BsDate> action) {
+            if (epochDay >= endEpochDay) {
+                return false;
+            }
+            action.accept(table.bsDate(epochDay++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super BsDate> action) {
+            while (epochDay < endEpochDay) {
+                action.accept(table.bsDate(epochDay++));
+            }
+        }
+
+        @Override
+        public OfDates trySplit() {
+            long start = epochDay;
+            long mid = midpoint();
+            if (mid == start) {
+                return null;
+            }
+            seek(mid);
+            return new OfDates(table, start, mid);
+        }
+
+        @Override
+        public Comparator<? super BsDate> getComparator() {
+            return CHRONOLOGICAL;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.github.scoolfx.converter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.scoolfx.model.InternalYearData;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads the human-editable JSON form of the calendar data.
+ * <p>
+ * This is the only class that touches Jackson when loading data, so Jackson is
+ * only needed at runtime when the compiled binary resource is unavailable.
+ */
+final class JsonCalendarData {
+
+    static final String RESOURCE = "/nepali-calendar-data.json";
+
+    private JsonCalendarData() {
+    }
+
+    static InternalYearData[] read(InputStream in) throws IOException {
+        ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        return mapper.readValue(in, InternalYearData[].class);
+    }
+}
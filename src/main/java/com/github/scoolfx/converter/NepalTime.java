@@ -0,0 +1,63 @@
+package com.github.scoolfx.converter;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+/**
+ * Maps instants to A.D. days in Nepal local time without going through {@link java.time.ZoneId}.
+ * <p>
+ * Nepal has no daylight saving time. It used UTC+05:30 until the end of 1985 and has used UTC+05:45
+ * since 1986-01-01 00:00 local time. Over the supported range (from 1943) this matches the
+ * {@code Asia/Kathmandu} time zone; earlier instants also use UTC+05:30.
+ */
+public final class NepalTime {
+
+    /**
+     * The offset in use before 1986.
+     */
+    public static final ZoneOffset OFFSET_BEFORE_1986 = ZoneOffset.ofHoursMinutes(5, 30);
+
+    /**
+     * The offset in use since 1986.
+     */
+    public static final ZoneOffset OFFSET = ZoneOffset.ofHoursMinutes(5, 45);
+
+    /**
+     * The instant the offset changed, 1986-01-01T00:00+05:30 (1985-12-31T18:30Z), in epoch seconds.
+     */
+    public static final long OFFSET_CHANGE_EPOCH_SECOND = 504_901_800L;
+
+    // Plain constants so the JIT folds them; ZoneOffset fields are not treated as constants
+    private static final int OFFSET_SECONDS_BEFORE_1986 = 19_800;
+    private static final int OFFSET_SECONDS = 20_700;
+    private static final long OFFSET_CHANGE_EPOCH_MILLI = OFFSET_CHANGE_EPOCH_SECOND * 1000;
+    private static final long SECONDS_PER_DAY = 86_400;
+    private static final long MILLIS_PER_DAY = SECONDS_PER_DAY * 1000;
+
+    private NepalTime() {
+    }
+
+    /**
+     * Returns the epoch day of the Nepal local date at the given epoch millisecond.
+     */
+    public static long epochDay(long epochMilli) {
+        int offsetSeconds = epochMilli < OFFSET_CHANGE_EPOCH_MILLI ? OFFSET_SECONDS_BEFORE_1986 : OFFSET_SECONDS;
+        return Math.floorDiv(epochMilli + offsetSeconds * 1000L, MILLIS_PER_DAY);
+    }
+
+    /**
+     * Returns the epoch day of the Nepal local date at the given instant.
+     */
+    public static long epochDay(Instant instant) {
+        long epochSecond = instant.getEpochSecond();
+        int offsetSeconds = epochSecond < OFFSET_CHANGE_EPOCH_SECOND ? OFFSET_SECONDS_BEFORE_1986 : OFFSET_SECONDS;
+        return Math.floorDiv(epochSecond + offsetSeconds, SECONDS_PER_DAY);
+    }
+
+    /**
+     * Returns the offset from UTC in use at the given epoch millisecond.
+     */
+    public static ZoneOffset offsetAt(long epochMilli) {
+        return epochMilli < OFFSET_CHANGE_EPOCH_MILLI ? OFFSET_BEFORE_1986 : OFFSET;
+    }
+}
@@ -1,19 +1,18 @@
 package com.github.scoolfx.converter;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.github.scoolfx.exception.NepaliCalendarException;
 import com.github.scoolfx.model.BsDate;
 import com.github.scoolfx.model.BsMonth;
-import com.github.scoolfx.model.InternalYearData;
+import com.github.scoolfx.model.PackedBsDate;
 
-import java.io.InputStream;
+import java.time.Instant;
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.NavigableMap;
-import java.util.TreeMap;
+import java.util.Iterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * The core engine for converting dates between the Gregorian (A.D.) and
@@ -24,63 +23,146 @@ import java.util.TreeMap;
  */
 public class NepaliDateConverter {
 
-    private final Map<Integer, InternalYearData> yearMap = new HashMap<>();
-    private final NavigableMap<LocalDate, InternalYearData> adMap = new TreeMap<>();
+    /**
+     * Returned by {@link #tryToAdEpochDay(int, int, int)} for unsupported or invalid dates.
+     */
+    public static final long INVALID_EPOCH_DAY = CalendarTable.INVALID_EPOCH_DAY;
+
+    private final AtomicReference<CalendarData> data;
 
     /**
-     * Initializes the converter and loads the calendar data from the internal JSON resource.
+     * Initializes a converter backed by the shared calendar data in {@link CalendarDataRegistry}.
+     * <p>
+     * The bundled data is loaded once per JVM, on first use; creating further converters is cheap.
+     * Snapshots later published through the registry are picked up automatically.
      *
-     * @throws RuntimeException if the internal data file is missing or corrupted.
+     * @throws NepaliCalendarException with {@code DATA_LOAD_ERROR} if the internal data file is missing or corrupted.
      */
     public NepaliDateConverter() {
-        loadData();
+        this.data = CalendarDataRegistry.reference();
     }
 
     /**
-     * Internal method to load year configurations into memory for fast lookup.
+     * Initializes a converter pinned to the given calendar data snapshot.
+     * It does not follow snapshots published through {@link CalendarDataRegistry}.
+     *
+     * @param data The calendar data to convert with.
      */
-    private void loadData() {
-        try (InputStream is = getClass().getResourceAsStream("/nepali-calendar-data.json")) {
-            ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
-            InternalYearData[] data = mapper.readValue(is, InternalYearData[].class);
-            for (var year : data) {
-                yearMap.put(year.year(), year);
-                adMap.put(year.startDate(), year);
-            }
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to initialize Nepali Calendar Data", e);
+    public NepaliDateConverter(CalendarData data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Calendar data must not be null");
         }
+        this.data = new AtomicReference<>(data);
+    }
+
+    /**
+     * Returns the calendar data snapshot this converter currently uses.
+     *
+     * @return The current {@link CalendarData}.
+     */
+    public CalendarData getCalendarData() {
+        return data.get();
+    }
+
+    private CalendarTable table() {
+        return data.get().table();
     }
 
     /**
      * Converts a Gregorian (A.D.) date to a Nepali (B.S.) date.
+     * <p>
+     * The returned instance is cached and shared: converting the same day twice yields an equal object,
+     * normally the very same one, so the call does not allocate once the day has been seen.
      *
      * @param adDate The A.D. date to convert.
      * @return A {@link BsDate} object representing the equivalent Nepali date.
      * @throws NepaliCalendarException if the date is outside the supported range.
      */
     public BsDate toBs(LocalDate adDate) {
-        var entry = adMap.floorEntry(adDate);
+        BsDate bsDate = table().bsDate(adDate.toEpochDay());
 
-        if (entry == null || adDate.isAfter(entry.getValue().endDate())) {
-            throw new NepaliCalendarException(
-                    "AD Date " + adDate + " is outside the supported B.S. range.",
-                    NepaliCalendarException.ErrorCode.OUT_OF_RANGE
-            );
+        if (bsDate == null) {
+            throw new NepaliCalendarException(NepaliCalendarException.ErrorCode.OUT_OF_RANGE,
+                    "AD Date {} is outside the supported B.S. range.", adDate);
         }
 
-        InternalYearData config = entry.getValue();
-        int daysDiff = (int) ChronoUnit.DAYS.between(config.startDate(), adDate);
+        return bsDate;
+    }
+
+    /**
+     * Converts an epoch day (days since 1970-01-01 A.D.) to a packed Nepali (B.S.) date without allocating.
+     *
+     * @param epochDay The A.D. date as an epoch day.
+     * @return The B.S. date encoded as described in {@link PackedBsDate}.
+     * @throws NepaliCalendarException if the date is outside the supported range.
+     */
+    public int toBsPacked(long epochDay) {
+        int packed = table().lookup(epochDay);
 
-        for (int i = 0; i < 12; i++) {
-            int mLen = config.monthLengths()[i];
-            if (daysDiff < mLen) {
-                return new BsDate(config.year(), BsMonth.fromValue(i + 1), daysDiff + 1);
-            }
-            daysDiff -= mLen;
+        if (packed == 0) {
+            throw new NepaliCalendarException(NepaliCalendarException.ErrorCode.OUT_OF_RANGE,
+                    "AD epoch day {} is outside the supported B.S. range.", epochDay);
         }
 
-        throw new NepaliCalendarException("Logic error in date conversion", NepaliCalendarException.ErrorCode.INVALID_BS_DATE);
+        return packed;
+    }
+
+    /**
+     * Returns the Nepali (B.S.) date in Nepal at the given instant, using {@link NepalTime}.
+     * <p>
+     * The returned instance is shared, as for {@link #toBs(LocalDate)}.
+     *
+     * @param instant The instant to convert.
+     * @return A {@link BsDate} object representing the date in Nepal.
+     * @throws NepaliCalendarException if the date is outside the supported range.
+     */
+    public BsDate toBs(Instant instant) {
+        BsDate bsDate = table().bsDate(NepalTime.epochDay(instant));
+
+        if (bsDate == null) {
+            throw new NepaliCalendarException(NepaliCalendarException.ErrorCode.OUT_OF_RANGE,
+                    "Instant {} is outside the supported B.S. range.", instant);
+        }
+
+        return bsDate;
+    }
+
+    /**
+     * Returns the Nepali (B.S.) date in Nepal at the given epoch millisecond without allocating.
+     *
+     * @param epochMilli Milliseconds since 1970-01-01T00:00Z, as from {@link System#currentTimeMillis()}.
+     * @return A {@link BsDate} object representing the date in Nepal; shared, as for {@link #toBs(LocalDate)}.
+     * @throws NepaliCalendarException if the date is outside the supported range.
+     * @see NepalTime
+     */
+    public BsDate toBsFromEpochMilli(long epochMilli) {
+        BsDate bsDate = table().bsDate(NepalTime.epochDay(epochMilli));
+
+        if (bsDate == null) {
+            throw new NepaliCalendarException(NepaliCalendarException.ErrorCode.OUT_OF_RANGE,
+                    "Epoch millisecond {} is outside the supported B.S. range.", epochMilli);
+        }
+
+        return bsDate;
+    }
+
+    /**
+     * Returns the packed Nepali (B.S.) date in Nepal at the given epoch millisecond.
+     *
+     * @param epochMilli Milliseconds since 1970-01-01T00:00Z.
+     * @return The B.S. date encoded as described in {@link PackedBsDate}.
+     * @throws NepaliCalendarException if the date is outside the supported range.
+     * @see NepalTime
+     */
+    public int toBsPackedFromEpochMilli(long epochMilli) {
+        int packed = table().lookup(NepalTime.epochDay(epochMilli));
+
+        if (packed == 0) {
+            throw new NepaliCalendarException(NepaliCalendarException.ErrorCode.OUT_OF_RANGE,
+                    "Epoch millisecond {} is outside the supported B.S. range.", epochMilli);
+        }
+
+        return packed;
     }
 
     /**
@@ -91,27 +173,331 @@ public class NepaliDateConverter {
      * @throws NepaliCalendarException if the B.S. year is unsupported or the day is invalid for the month.
      */
     public LocalDate toAd(BsDate bsDate) {
-        InternalYearData config = yearMap.get(bsDate.year());
+        return LocalDate.ofEpochDay(toAdEpochDay(bsDate.year(), bsDate.month().getValue(), bsDate.day()));
+    }
+
+    /**
+     * Converts a Nepali (B.S.) date to an epoch day (days since 1970-01-01 A.D.) without allocating.
+     *
+     * @param year  The B.S. year.
+     * @param month The B.S. month (1-12).
+     * @param day   The day of the month.
+     * @return The equivalent A.D. date as an epoch day.
+     * @throws NepaliCalendarException if the B.S. year is unsupported or the month or day is invalid.
+     */
+    public long toAdEpochDay(int year, int month, int day) {
+        return toEpochDay(table(), year, month, day);
+    }
+
+    /**
+     * Returns the calendar grid of the given B.S. month, with the A.D. date of every day.
+     * <p>
+     * Views are built on first use and cached for the lifetime of the calendar data snapshot,
+     * so repeated calls for the same month return the same instance without allocating.
+     *
+     * @param year  The B.S. year.
+     * @param month The B.S. month.
+     * @return The shared {@link BsMonthView}.
+     * @throws NepaliCalendarException if the B.S. year is unsupported.
+     */
+    public BsMonthView monthView(int year, BsMonth month) {
+        CalendarTable table = table();
+        if (!table.containsYear(year)) {
+            throw new NepaliCalendarException(NepaliCalendarException.ErrorCode.OUT_OF_RANGE,
+                    "B.S. Year {} is not supported by the current data file.", year);
+        }
+        return table.monthView(year, month.getValue());
+    }
+
+    /**
+     * Returns whether the given A.D. date is within the supported range.
+     */
+    public boolean isSupported(LocalDate adDate) {
+        return table().lookup(adDate.toEpochDay()) != 0;
+    }
+
+    /**
+     * Returns whether the given B.S. date exists in the supported range.
+     */
+    public boolean isValid(BsDate bsDate) {
+        return isValid(bsDate.year(), bsDate.month().getValue(), bsDate.day());
+    }
+
+    /**
+     * Returns whether the given B.S. year, month (1-12) and day exist in the supported range.
+     */
+    public boolean isValid(int year, int month, int day) {
+        return table().epochDay(year, month, day) != INVALID_EPOCH_DAY;
+    }
+
+    /**
+     * Same as {@link #toBs(LocalDate)}, but reports an unsupported date in the result instead of throwing.
+     */
+    public ConversionResult<BsDate> tryToBs(LocalDate adDate) {
+        BsDate bsDate = table().bsDate(adDate.toEpochDay());
+        return bsDate == null
+                ? ConversionResult.failure(NepaliCalendarException.ErrorCode.OUT_OF_RANGE)
+                : ConversionResult.success(bsDate);
+    }
+
+    /**
+     * Same as {@link #toAd(BsDate)}, but reports an unsupported or invalid date in the result instead of throwing.
+     */
+    public ConversionResult<LocalDate> tryToAd(BsDate bsDate) {
+        CalendarTable table = table();
+        long epochDay = table.epochDay(bsDate.year(), bsDate.month().getValue(), bsDate.day());
+        if (epochDay == INVALID_EPOCH_DAY) {
+            return ConversionResult.failure(table.containsYear(bsDate.year())
+                    ? NepaliCalendarException.ErrorCode.INVALID_BS_DATE
+                    : NepaliCalendarException.ErrorCode.OUT_OF_RANGE);
+        }
+        return ConversionResult.success(LocalDate.ofEpochDay(epochDay));
+    }
+
+    /**
+     * Same as {@link #toBsPacked(long)}, but returns {@link PackedBsDate#INVALID} instead of throwing.
+     */
+    public int tryToBsPacked(long epochDay) {
+        return table().lookup(epochDay);
+    }
 
-        if (config == null) {
-            throw new NepaliCalendarException(
-                    "B.S. Year " + bsDate.year() + " is not supported by the current data file.",
-                    NepaliCalendarException.ErrorCode.OUT_OF_RANGE
-            );
+    /**
+     * Same as {@link #toAdEpochDay(int, int, int)}, but returns {@link #INVALID_EPOCH_DAY} instead of throwing.
+     */
+    public long tryToAdEpochDay(int year, int month, int day) {
+        return table().epochDay(year, month, day);
+    }
+
+    /**
+     * Shared validation for every B.S. to epoch day conversion, so all entry points report
+     * unsupported and invalid dates the same way.
+     */
+    static long toEpochDay(CalendarTable table, int year, int month, int day) {
+        if (!table.containsYear(year)) {
+            throw new NepaliCalendarException(NepaliCalendarException.ErrorCode.OUT_OF_RANGE,
+                    "B.S. Year {} is not supported by the current data file.", year);
         }
 
-        if (bsDate.day() > config.getMonthLength(bsDate.month().getValue())) {
-            throw new NepaliCalendarException(
-                    "Invalid day " + bsDate.day() + " for month " + bsDate.month().getName(),
-                    NepaliCalendarException.ErrorCode.INVALID_BS_DATE
-            );
+        if (month < 1 || month > 12) {
+            throw new NepaliCalendarException(NepaliCalendarException.ErrorCode.INVALID_BS_DATE,
+                    "Invalid month {}", month);
         }
 
-        int daysOffset = bsDate.day() - 1;
-        for (int i = 0; i < bsDate.month().getValue() - 1; i++) {
-            daysOffset += config.monthLengths()[i];
+        if (day < 1 || day > table.monthLength(year, month)) {
+            throw new NepaliCalendarException(NepaliCalendarException.ErrorCode.INVALID_BS_DATE,
+                    "Invalid day {} for month {}", day, BsMonth.fromValue(month).getName());
+        }
+
+        return table.monthStart(year, month) + day - 1;
+    }
+
+    /**
+     * Converts a column of epoch days to B.S. year, month and day columns.
+     * <p>
+     * Unsupported inputs do not throw: their error flag is set to {@code true} and their
+     * outputs are set to {@code 0}. Output arrays must be at least as long as the input.
+     *
+     * @param epochDays The A.D. dates as epoch days.
+     * @param years     Receives the B.S. years.
+     * @param months    Receives the B.S. months (1-12).
+     * @param days      Receives the B.S. days of month.
+     * @param errors    Receives {@code true} for every element that could not be converted.
+     * @return The number of elements that could not be converted.
+     */
+    public int toBs(long[] epochDays, int[] years, int[] months, int[] days, boolean[] errors) {
+        BatchConversion.checkLengths(epochDays.length, years.length, months.length, days.length, errors.length);
+        return BatchConversion.toBs(table(), epochDays, years, months, days, errors, 0, epochDays.length);
+    }
+
+    /**
+     * Same as {@link #toBs(long[], int[], int[], int[], boolean[])}, but splits large batches
+     * across the common fork-join pool.
+     */
+    public int toBsParallel(long[] epochDays, int[] years, int[] months, int[] days, boolean[] errors) {
+        BatchConversion.checkLengths(epochDays.length, years.length, months.length, days.length, errors.length);
+        CalendarTable table = table();
+        return BatchConversion.parallel(epochDays.length,
+                (from, to) -> BatchConversion.toBs(table, epochDays, years, months, days, errors, from, to));
+    }
+
+    /**
+     * Converts a column of A.D. dates to B.S. year, month and day columns.
+     * {@code null} elements are reported as errors.
+     *
+     * @see #toBs(long[], int[], int[], int[], boolean[])
+     */
+    public int toBs(LocalDate[] adDates, int[] years, int[] months, int[] days, boolean[] errors) {
+        BatchConversion.checkLengths(adDates.length, years.length, months.length, days.length, errors.length);
+        return BatchConversion.toBs(table(), adDates, years, months, days, errors, 0, adDates.length);
+    }
+
+    /**
+     * Same as {@link #toBs(LocalDate[], int[], int[], int[], boolean[])}, but splits large batches
+     * across the common fork-join pool.
+     */
+    public int toBsParallel(LocalDate[] adDates, int[] years, int[] months, int[] days, boolean[] errors) {
+        BatchConversion.checkLengths(adDates.length, years.length, months.length, days.length, errors.length);
+        CalendarTable table = table();
+        return BatchConversion.parallel(adDates.length,
+                (from, to) -> BatchConversion.toBs(table, adDates, years, months, days, errors, from, to));
+    }
+
+    /**
+     * Converts a column of epoch milliseconds to the B.S. dates in Nepal at those instants.
+     *
+     * @see #toBs(long[], int[], int[], int[], boolean[])
+     * @see NepalTime
+     */
+    public int toBsFromEpochMilli(long[] epochMillis, int[] years, int[] months, int[] days, boolean[] errors) {
+        BatchConversion.checkLengths(epochMillis.length, years.length, months.length, days.length, errors.length);
+        return BatchConversion.toBsFromEpochMilli(table(), epochMillis, years, months, days, errors,
+                0, epochMillis.length);
+    }
+
+    /**
+     * Same as {@link #toBsFromEpochMilli(long[], int[], int[], int[], boolean[])}, but splits large
+     * batches across the common fork-join pool.
+     */
+    public int toBsFromEpochMilliParallel(long[] epochMillis, int[] years, int[] months, int[] days,
+                                          boolean[] errors) {
+        BatchConversion.checkLengths(epochMillis.length, years.length, months.length, days.length, errors.length);
+        CalendarTable table = table();
+        return BatchConversion.parallel(epochMillis.length, (from, to) ->
+                BatchConversion.toBsFromEpochMilli(table, epochMillis, years, months, days, errors, from, to));
+    }
+
+    /**
+     * Converts B.S. year, month and day columns to a column of epoch days.
+     * <p>
+     * Unsupported or invalid inputs do not throw: their error flag is set to {@code true} and
+     * their output is set to {@code 0}. Output arrays must be at least as long as {@code years}.
+     *
+     * @param years     The B.S. years.
+     * @param months    The B.S. months (1-12).
+     * @param days      The B.S. days of month.
+     * @param epochDays Receives the A.D. dates as epoch days.
+     * @param errors    Receives {@code true} for every element that could not be converted.
+     * @return The number of elements that could not be converted.
+     */
+    public int toAd(int[] years, int[] months, int[] days, long[] epochDays, boolean[] errors) {
+        BatchConversion.checkLengths(years.length, months.length, days.length, epochDays.length, errors.length);
+        return BatchConversion.toAd(table(), years, months, days, epochDays, errors, 0, years.length);
+    }
+
+    /**
+     * Same as {@link #toAd(int[], int[], int[], long[], boolean[])}, but splits large batches
+     * across the common fork-join pool.
+     */
+    public int toAdParallel(int[] years, int[] months, int[] days, long[] epochDays, boolean[] errors) {
+        BatchConversion.checkLengths(years.length, months.length, days.length, epochDays.length, errors.length);
+        CalendarTable table = table();
+        return BatchConversion.parallel(years.length,
+                (from, to) -> BatchConversion.toAd(table, years, months, days, epochDays, errors, from, to));
+    }
+
+    /**
+     * Returns every B.S. date from {@code startInclusive} to {@code endInclusive}, in order.
+     * <p>
+     * The stream is sized and splits evenly, so {@code parallel()} spreads the range across cores.
+     * Elements are the shared instances also returned by {@link #toBs(LocalDate)}.
+     *
+     * @throws NepaliCalendarException if either date is invalid or unsupported.
+     * @throws IllegalArgumentException if the end is before the start.
+     */
+    public Stream<BsDate> datesBetween(BsDate startInclusive, BsDate endInclusive) {
+        CalendarTable table = table();
+        long start = toEpochDay(table, startInclusive.year(), startInclusive.month().getValue(), startInclusive.day());
+        long end = toEpochDay(table, endInclusive.year(), endInclusive.month().getValue(), endInclusive.day());
+        return StreamSupport.stream(new DateRangeSpliterator.OfDates(table, start, checkRange(start, end)), false);
+    }
+
+    /**
+     * Returns the B.S. date of every A.D. day from {@code startInclusive} to {@code endInclusive}, in order.
+     *
+     * @throws NepaliCalendarException if either date is outside the supported range.
+     * @throws IllegalArgumentException if the end is before the start.
+     * @see #datesBetween(BsDate, BsDate)
+     */
+    public Stream<BsDate> datesBetween(LocalDate startInclusive, LocalDate endInclusive) {
+        CalendarTable table = table();
+        long start = supportedEpochDay(table, startInclusive);
+        long end = supportedEpochDay(table, endInclusive);
+        return StreamSupport.stream(new DateRangeSpliterator.OfDates(table, start, checkRange(start, end)), false);
+    }
+
+    /**
+     * Returns every B.S. date from {@code startInclusive} to {@code endInclusive} as packed {@code int}s,
+     * in order, without allocating per element.
+     *
+     * @throws NepaliCalendarException if either date is invalid or unsupported.
+     * @throws IllegalArgumentException if the end is before the start.
+     * @see PackedBsDate
+     */
+    public IntStream packedDatesBetween(BsDate startInclusive, BsDate endInclusive) {
+        CalendarTable table = table();
+        long start = toEpochDay(table, startInclusive.year(), startInclusive.month().getValue(), startInclusive.day());
+        long end = toEpochDay(table, endInclusive.year(), endInclusive.month().getValue(), endInclusive.day());
+        return StreamSupport.intStream(new DateRangeSpliterator.OfPacked(table, start, checkRange(start, end)), false);
+    }
+
+    /**
+     * Returns the packed B.S. date of every A.D. day from {@code startInclusive} to {@code endInclusive}.
+     *
+     * @throws NepaliCalendarException if either date is outside the supported range.
+     * @throws IllegalArgumentException if the end is before the start.
+     * @see #packedDatesBetween(BsDate, BsDate)
+     */
+    public IntStream packedDatesBetween(LocalDate startInclusive, LocalDate endInclusive) {
+        CalendarTable table = table();
+        long start = supportedEpochDay(table, startInclusive);
+        long end = supportedEpochDay(table, endInclusive);
+        return StreamSupport.intStream(new DateRangeSpliterator.OfPacked(table, start, checkRange(start, end)), false);
+    }
+
+    /**
+     * Returns an iterator over every B.S. date from {@code startInclusive} to {@code endInclusive}.
+     *
+     * @throws NepaliCalendarException if either date is invalid or unsupported.
+     * @throws IllegalArgumentException if the end is before the start.
+     */
+    public Iterator<BsDate> iterator(BsDate startInclusive, BsDate endInclusive) {
+        CalendarTable table = table();
+        long start = toEpochDay(table, startInclusive.year(), startInclusive.month().getValue(), startInclusive.day());
+        long end = toEpochDay(table, endInclusive.year(), endInclusive.month().getValue(), endInclusive.day());
+        return Spliterators.iterator(new DateRangeSpliterator.OfDates(table, start, checkRange(start, end)));
+    }
+
+    /**
+     * Returns an iterator over the B.S. date of every A.D. day from {@code startInclusive} to {@code endInclusive}.
+     *
+     * @throws NepaliCalendarException if either date is outside the supported range.
+     * @throws IllegalArgumentException if the end is before the start.
+     * @see #iterator(BsDate, BsDate)
+     */
+    public Iterator<BsDate> iterator(LocalDate startInclusive, LocalDate endInclusive) {
+        CalendarTable table = table();
+        long start = supportedEpochDay(table, startInclusive);
+        long end = supportedEpochDay(table, endInclusive);
+        return Spliterators.iterator(new DateRangeSpliterator.OfDates(table, start, checkRange(start, end)));
+    }
+
+    private static long supportedEpochDay(CalendarTable table, LocalDate adDate) {
+        long epochDay = adDate.toEpochDay();
+        if (table.lookup(epochDay) == 0) {
+            throw new NepaliCalendarException(NepaliCalendarException.ErrorCode.OUT_OF_RANGE,
+                    "AD Date {} is outside the supported B.S. range.", adDate);
+        }
+        return epochDay;
+    }
+
+    /**
+     * Validates an inclusive range and returns its exclusive end.
+     */
+    private static long checkRange(long startInclusive, long endInclusive) {
+        if (endInclusive < startInclusive) {
+            throw new IllegalArgumentException("End date must not be before start date");
         }
-        return config.startDate().plusDays(daysOffset);
+        return endInclusive + 1;
     }
 
     /**
@@ -120,7 +506,7 @@ public class NepaliDateConverter {
      * @return The earliest A.D. date that can be converted to B.S.
      */
     public LocalDate getMinSupportedAdDate() {
-        return adMap.firstKey();
+        return LocalDate.ofEpochDay(table().minEpochDay());
     }
 
     /**
@@ -129,6 +515,6 @@ public class NepaliDateConverter {
      * @return The latest A.D. date that can be converted to B.S.
      */
     public LocalDate getMaxSupportedAdDate() {
-        return adMap.lastEntry().getValue().endDate();
+        return LocalDate.ofEpochDay(table().maxEpochDay());
     }
 }
\ No newline at end of file
@@ -0,0 +1,148 @@
+package com.github.scoolfx.converter;
+
+import com.github.scoolfx.model.BsPeriod;
+
+/**
+ * Record counts and value sums per {@link BsPeriod}, as computed by {@link BsPeriodCalendar}.
+ * <p>
+ * There is one bucket per period overlapping the supported range of the calendar data the totals
+ * were computed with, from {@link #getFirstId()} to {@link #getLastId()}. Records on days outside
+ * that range are counted by {@link #getUnsupportedCount()} instead. Sums wrap around on overflow,
+ * like {@link java.util.stream.LongStream#sum()}.
+ * <p>
+ * Instances returned to callers are not modified afterwards and may be shared between threads.
+ */
+public final class PeriodTotals {
+
+    private final BsPeriod period;
+    private final int firstId;
+    private final long[] counts;
+    private final long[] sums;
+    private long unsupported;
+
+    /**
+     * Shared with the calendar table; see {@link CalendarTable#periodIndex(BsPeriod)}.
+     */
+    private final char[] periodIndex;
+    private final long minEpochDay;
+
+    /**
+     * Creates empty totals covering every period of the given table.
+     */
+    PeriodTotals(CalendarTable table, BsPeriod period) {
+        this.period = period;
+        this.firstId = period.idOfPacked(table.lookup(table.minEpochDay()));
+        this.counts = new long[period.idOfPacked(table.lookup(table.maxEpochDay())) - firstId + 1];
+        this.sums = new long[counts.length];
+        this.periodIndex = table.periodIndex(period);
+        this.minEpochDay = table.minEpochDay();
+    }
+
+    /**
+     * Adds one record on the given A.D. day.
+     */
+    void add(long epochDay, long value) {
+        long day = epochDay - minEpochDay;
+        if (day < 0 || day >= periodIndex.length) {
+            unsupported++;
+            return;
+        }
+        int index = periodIndex[(int) day];
+        counts[index]++;
+        sums[index] += value;
+    }
+
+    /**
+     * Adds {@code other}, which must cover the same periods, into these totals.
+     */
+    PeriodTotals merge(PeriodTotals other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+            sums[i] += other.sums[i];
+        }
+        unsupported += other.unsupported;
+        return this;
+    }
+
+    public BsPeriod getPeriod() {
+        return period;
+    }
+
+    /**
+     * Returns the id of the first period with a bucket.
+     */
+    public int getFirstId() {
+        return firstId;
+    }
+
+    /**
+     * Returns the id of the last period with a bucket.
+     */
+    public int getLastId() {
+        return firstId + counts.length - 1;
+    }
+
+    /**
+     * Returns the number of records in the given period, or {@code 0} if it has no bucket.
+     */
+    public long getCount(int id) {
+        int index = id - firstId;
+        return index >= 0 && index < counts.length ? counts[index] : 0;
+    }
+
+    /**
+     * Returns the sum of the values of the records in the given period, or {@code 0} if it has no bucket.
+     */
+    public long getSum(int id) {
+        int index = id - firstId;
+        return index >= 0 && index < sums.length ? sums[index] : 0;
+    }
+
+    /**
+     * Returns the number of records on supported days.
+     */
+    public long getTotalCount() {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Returns the number of records whose day is outside the supported range.
+     */
+    public long getUnsupportedCount() {
+        return unsupported;
+    }
+
+    /**
+     * Passes every period with at least one record to {@code action}, in chronological order.
+     */
+    public void forEach(PeriodConsumer action) {
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) {
+                action.accept(firstId + i, counts[i], sums[i]);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder("PeriodTotals[").append(period);
+        forEach((id, count, sum) -> text.append(", ").append(period.label(id))
+                .append('=').append(count).append('/').append(sum));
+        if (unsupported != 0) {
+            text.append(", unsupported=").append(unsupported);
+        }
+        return text.append(']').toString();
+    }
+
+    /**
+     * Receives the totals of one period.
+     */
+    @FunctionalInterface
+    public interface PeriodConsumer {
+        void accept(int id, long count, long sum);
+    }
+}
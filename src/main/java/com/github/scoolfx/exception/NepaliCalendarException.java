@@ -1,8 +1,18 @@
 package com.github.scoolfx.exception;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+
 public class NepaliCalendarException extends RuntimeException {
 
+    private static volatile boolean stackTracesEnabled =
+            !Boolean.getBoolean("com.github.scoolfx.stacklessExceptions");
+
     private final ErrorCode errorCode;
+    private final String template;
+    private final transient Object[] arguments;
+    private String formattedMessage;
 
     public enum ErrorCode {
         OUT_OF_RANGE,
@@ -11,16 +21,81 @@ public class NepaliCalendarException extends RuntimeException {
     }
 
     public NepaliCalendarException(String message, ErrorCode errorCode) {
-        super(message);
-        this.errorCode = errorCode;
+        this(message, errorCode, null);
     }
 
     public NepaliCalendarException(String message, ErrorCode errorCode, Throwable cause) {
-        super(message, cause);
+        super(message, cause, true, writableStackTrace(errorCode));
         this.errorCode = errorCode;
+        this.template = null;
+        this.arguments = null;
+    }
+
+    /**
+     * Creates an exception whose message is only built when it is first read. Each {@code {}}
+     * in the template is replaced by the next argument.
+     */
+    public NepaliCalendarException(ErrorCode errorCode, String template, Object... arguments) {
+        super(null, null, true, writableStackTrace(errorCode));
+        this.errorCode = errorCode;
+        this.template = template;
+        this.arguments = arguments;
     }
 
     public ErrorCode getErrorCode() {
         return errorCode;
     }
-}
\ No newline at end of file
+
+    @Override
+    public String getMessage() {
+        if (template == null) {
+            return super.getMessage();
+        }
+        String message = formattedMessage;
+        if (message == null) {
+            message = format(template, arguments);
+            formattedMessage = message;
+        }
+        return message;
+    }
+
+    /**
+     * Controls whether {@code OUT_OF_RANGE} and {@code INVALID_BS_DATE} exceptions capture a stack trace.
+     * <p>
+     * Filling in the stack trace is most of the cost of a failed conversion; turn it off when large
+     * amounts of bad input are expected and the exceptions are handled close to the call. The default
+     * is on, or off if the system property {@code com.github.scoolfx.stacklessExceptions} is
+     * {@code true}. {@code DATA_LOAD_ERROR} exceptions always keep their stack trace.
+     */
+    public static void setStackTracesEnabled(boolean enabled) {
+        stackTracesEnabled = enabled;
+    }
+
+    public static boolean isStackTracesEnabled() {
+        return stackTracesEnabled;
+    }
+
+    @Serial
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        // The arguments are not serialized, so format the message while they are still available
+        getMessage();
+        out.defaultWriteObject();
+    }
+
+    private static boolean writableStackTrace(ErrorCode errorCode) {
+        return stackTracesEnabled || errorCode == ErrorCode.DATA_LOAD_ERROR;
+    }
+
+    private static String format(String template, Object[] arguments) {
+        StringBuilder message = new StringBuilder(template.length() + 16);
+        int argument = 0;
+        int from = 0;
+        int placeholder;
+        while ((placeholder = template.indexOf("{}", from)) >= 0) {
+            message.append(template, from, placeholder);
+            message.append(arguments != null && argument < arguments.length ? arguments[argument++] : "{}");
+            from = placeholder + 2;
+        }
+        return message.append(template, from, template.length()).toString();
+    }
+}
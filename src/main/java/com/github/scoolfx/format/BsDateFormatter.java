@@ -0,0 +1,730 @@
+package com.github.scoolfx.format;
+
+import com.github.scoolfx.exception.NepaliCalendarException;
+import com.github.scoolfx.model.BsDate;
+import com.github.scoolfx.model.BsMonth;
+import com.github.scoolfx.model.PackedBsDate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Formats and parses {@link BsDate} values using a pattern compiled once.
+ * <p>
+ * Supported pattern letters:
+ * <ul>
+ *     <li>{@code yyyy} - four-digit year; {@code yy} - last two digits of the year, parsed as {@code 20yy}</li>
+ *     <li>{@code MM} - two-digit month; {@code M} - month without padding;
+ *     {@code MMM} or {@code MMMM} - month name as given by {@link BsMonth#getName()}</li>
+ *     <li>{@code dd} - two-digit day; {@code d} - day without padding</li>
+ * </ul>
+ * Text in single quotes is copied literally ({@code ''} is a quote), as is any other character
+ * that is not an ASCII letter. Formatting can emit Devanagari digits ({@code ०-९}); parsing
+ * accepts both ASCII and Devanagari digits and matches month names ignoring case.
+ * <p>
+ * Formatting appends straight into a {@link StringBuilder}, a {@code char[]} or a UTF-8 {@code byte[]}, and parsing
+ * reads the input in place, so neither creates intermediate strings. Parsing checks that the month
+ * is 1-12 and the day 1-32 but does not consult the calendar data; use
+ * {@link com.github.scoolfx.converter.NepaliDateConverter#toAd(BsDate)} to validate a date fully.
+ * <p>
+ * Instances are immutable and thread-safe.
+ */
+public final class BsDateFormatter {
+
+    /**
+     * The {@code yyyy-MM-dd} format used by {@link BsDate#format()}.
+     */
+    public static final BsDateFormatter ISO = ofPattern("yyyy-MM-dd");
+
+    private static final int YEAR = 0;
+    private static final int YEAR_OF_CENTURY = 1;
+    private static final int MONTH = 2;
+    private static final int MONTH_NAME = 3;
+    private static final int DAY = 4;
+    private static final int LITERAL = 5;
+
+    private static final char DEVANAGARI_ZERO = '०';
+    private static final BsMonth[] MONTHS = BsMonth.values();
+    private static final byte[][] MONTH_NAME_BYTES = new byte[12][];
+
+    static {
+        for (BsMonth month : MONTHS) {
+            MONTH_NAME_BYTES[month.getValue() - 1] = month.getName().getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    private final String pattern;
+    private final boolean devanagari;
+    private final int[] kinds;
+    private final int[] widths;
+    private final String[] literals;
+    private final byte[][] literalBytes;
+
+    private BsDateFormatter(String pattern, boolean devanagari, int[] kinds, int[] widths, String[] literals) {
+        this.pattern = pattern;
+        this.devanagari = devanagari;
+        this.kinds = kinds;
+        this.widths = widths;
+        this.literals = literals;
+        this.literalBytes = new byte[literals.length][];
+        for (int i = 0; i < literals.length; i++) {
+            if (literals[i] != null) {
+                literalBytes[i] = literals[i].getBytes(StandardCharsets.UTF_8);
+            }
+        }
+    }
+
+    /**
+     * Compiles a formatter from the given pattern.
+     *
+     * @throws IllegalArgumentException if the pattern is invalid.
+     */
+    public static BsDateFormatter ofPattern(String pattern) {
+        if (pattern == null || pattern.isEmpty()) {
+            throw new IllegalArgumentException("Pattern must not be empty");
+        }
+        List<Integer> kinds = new ArrayList<>();
+        List<Integer> widths = new ArrayList<>();
+        List<String> literals = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < pattern.length()) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                int end = i + 1;
+                while (true) {
+                    if (end >= pattern.length()) {
+                        throw new IllegalArgumentException("Unterminated quote in pattern: " + pattern);
+                    }
+                    if (pattern.charAt(end) == '\'') {
+                        if (end + 1 < pattern.length() && pattern.charAt(end + 1) == '\'') {
+                            literal.append('\'');
+                            end += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    literal.append(pattern.charAt(end++));
+                }
+                if (end == i + 1) {
+                    literal.append('\'');
+                }
+                i = end + 1;
+                continue;
+            }
+            if (!isAsciiLetter(c)) {
+                literal.append(c);
+                i++;
+                continue;
+            }
+
+            int count = 1;
+            while (i + count < pattern.length() && pattern.charAt(i + count) == c) {
+                count++;
+            }
+            int kind = switch (c) {
+                case 'y' -> switch (count) {
+                    case 2 -> YEAR_OF_CENTURY;
+                    case 4 -> YEAR;
+                    default -> throw invalidCount(c, count, pattern);
+                };
+                case 'M' -> switch (count) {
+                    case 1, 2 -> MONTH;
+                    case 3, 4 -> MONTH_NAME;
+                    default -> throw invalidCount(c, count, pattern);
+                };
+                case 'd' -> {
+                    if (count > 2) {
+                        throw invalidCount(c, count, pattern);
+                    }
+                    yield DAY;
+                }
+                default -> throw new IllegalArgumentException("Unknown pattern letter '" + c + "' in " + pattern);
+            };
+            if (!literal.isEmpty()) {
+                kinds.add(LITERAL);
+                widths.add(0);
+                literals.add(literal.toString());
+                literal.setLength(0);
+            }
+            kinds.add(kind);
+            widths.add(kind == YEAR_OF_CENTURY ? 2 : count);
+            literals.add(null);
+            i += count;
+        }
+        if (!literal.isEmpty()) {
+            kinds.add(LITERAL);
+            widths.add(0);
+            literals.add(literal.toString());
+        }
+
+        int[] kindArray = new int[kinds.size()];
+        int[] widthArray = new int[widths.size()];
+        for (int k = 0; k < kindArray.length; k++) {
+            kindArray[k] = kinds.get(k);
+            widthArray[k] = widths.get(k);
+        }
+        return new BsDateFormatter(pattern, false, kindArray, widthArray, literals.toArray(new String[0]));
+    }
+
+    /**
+     * Returns a copy of this formatter that formats digits as Devanagari numerals.
+     */
+    public BsDateFormatter withDevanagariDigits() {
+        return devanagari ? this : new BsDateFormatter(pattern, true, kinds, widths, literals);
+    }
+
+    /**
+     * Returns a copy of this formatter that formats digits as ASCII numerals.
+     */
+    public BsDateFormatter withAsciiDigits() {
+        return devanagari ? new BsDateFormatter(pattern, false, kinds, widths, literals) : this;
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    public boolean isDevanagariDigits() {
+        return devanagari;
+    }
+
+    /**
+     * Formats the given date.
+     */
+    public String format(BsDate date) {
+        return formatTo(date, new StringBuilder(16)).toString();
+    }
+
+    /**
+     * Formats the given packed date.
+     *
+     * @param packed A date encoded as described in {@link PackedBsDate}.
+     */
+    public String formatPacked(int packed) {
+        return formatPackedTo(packed, new StringBuilder(16)).toString();
+    }
+
+    /**
+     * Appends the formatted date to {@code target}.
+     *
+     * @return {@code target}, for chaining.
+     */
+    public StringBuilder formatTo(BsDate date, StringBuilder target) {
+        return formatTo(date.year(), date.month().getValue(), date.day(), target);
+    }
+
+    /**
+     * Appends the formatted packed date to {@code target}.
+     *
+     * @param packed A date encoded as described in {@link PackedBsDate}.
+     * @return {@code target}, for chaining.
+     */
+    public StringBuilder formatPackedTo(int packed, StringBuilder target) {
+        return formatTo(PackedBsDate.year(packed), PackedBsDate.month(packed), PackedBsDate.day(packed), target);
+    }
+
+    private StringBuilder formatTo(int year, int month, int day, StringBuilder target) {
+        char zero = devanagari ? DEVANAGARI_ZERO : '0';
+        for (int i = 0; i < kinds.length; i++) {
+            switch (kinds[i]) {
+                case YEAR -> appendNumber(target, year, widths[i], zero);
+                case YEAR_OF_CENTURY -> appendNumber(target, Math.floorMod(year, 100), 2, zero);
+                case MONTH -> appendNumber(target, month, widths[i], zero);
+                case MONTH_NAME -> target.append(BsMonth.fromValue(month).getName());
+                case DAY -> appendNumber(target, day, widths[i], zero);
+                default -> target.append(literals[i]);
+            }
+        }
+        return target;
+    }
+
+    /**
+     * Writes the formatted date into {@code buffer} as UTF-8, starting at {@code offset}.
+     *
+     * @return The offset just after the last byte written.
+     * @throws ArrayIndexOutOfBoundsException if the buffer is too small; {@link #maxEncodedLength()}
+     *                                        bytes are always enough for dates with four-digit years.
+     */
+    public int formatTo(BsDate date, byte[] buffer, int offset) {
+        return formatTo(date.year(), date.month().getValue(), date.day(), buffer, offset);
+    }
+
+    /**
+     * Writes the formatted packed date into {@code buffer} as UTF-8, starting at {@code offset}.
+     *
+     * @param packed A date encoded as described in {@link PackedBsDate}.
+     * @return The offset just after the last byte written.
+     * @see #formatTo(BsDate, byte[], int)
+     */
+    public int formatPackedTo(int packed, byte[] buffer, int offset) {
+        return formatTo(PackedBsDate.year(packed), PackedBsDate.month(packed), PackedBsDate.day(packed),
+                buffer, offset);
+    }
+
+    private int formatTo(int year, int month, int day, byte[] buffer, int offset) {
+        int p = offset;
+        for (int i = 0; i < kinds.length; i++) {
+            switch (kinds[i]) {
+                case YEAR -> p = writeNumber(buffer, p, year, widths[i]);
+                case YEAR_OF_CENTURY -> p = writeNumber(buffer, p, Math.floorMod(year, 100), 2);
+                case MONTH -> p = writeNumber(buffer, p, month, widths[i]);
+                case MONTH_NAME -> {
+                    byte[] name = MONTH_NAME_BYTES[BsMonth.fromValue(month).ordinal()];
+                    System.arraycopy(name, 0, buffer, p, name.length);
+                    p += name.length;
+                }
+                case DAY -> p = writeNumber(buffer, p, day, widths[i]);
+                default -> {
+                    byte[] bytes = literalBytes[i];
+                    System.arraycopy(bytes, 0, buffer, p, bytes.length);
+                    p += bytes.length;
+                }
+            }
+        }
+        return p;
+    }
+
+    /**
+     * Writes the formatted date into {@code buffer}, starting at {@code offset}.
+     *
+     * @return The offset just after the last character written.
+     * @throws ArrayIndexOutOfBoundsException if the buffer is too small; {@link #maxLength()}
+     *                                        characters are always enough for dates with four-digit years.
+     */
+    public int formatTo(BsDate date, char[] buffer, int offset) {
+        return formatTo(date.year(), date.month().getValue(), date.day(), buffer, offset);
+    }
+
+    /**
+     * Writes the formatted packed date into {@code buffer}, starting at {@code offset}.
+     *
+     * @param packed A date encoded as described in {@link PackedBsDate}.
+     * @return The offset just after the last character written.
+     * @see #formatTo(BsDate, char[], int)
+     */
+    public int formatPackedTo(int packed, char[] buffer, int offset) {
+        return formatTo(PackedBsDate.year(packed), PackedBsDate.month(packed), PackedBsDate.day(packed),
+                buffer, offset);
+    }
+
+    private int formatTo(int year, int month, int day, char[] buffer, int offset) {
+        char zero = devanagari ? DEVANAGARI_ZERO : '0';
+        int p = offset;
+        for (int i = 0; i < kinds.length; i++) {
+            switch (kinds[i]) {
+                case YEAR -> p = writeNumber(buffer, p, year, widths[i], zero);
+                case YEAR_OF_CENTURY -> p = writeNumber(buffer, p, Math.floorMod(year, 100), 2, zero);
+                case MONTH -> p = writeNumber(buffer, p, month, widths[i], zero);
+                case MONTH_NAME -> {
+                    String name = BsMonth.fromValue(month).getName();
+                    name.getChars(0, name.length(), buffer, p);
+                    p += name.length();
+                }
+                case DAY -> p = writeNumber(buffer, p, day, widths[i], zero);
+                default -> {
+                    String literal = literals[i];
+                    literal.getChars(0, literal.length(), buffer, p);
+                    p += literal.length();
+                }
+            }
+        }
+        return p;
+    }
+
+    /**
+     * Returns the largest number of characters {@link #formatTo(BsDate, char[], int)} writes
+     * for a date whose year has at most four digits.
+     */
+    public int maxLength() {
+        int length = 0;
+        for (int i = 0; i < kinds.length; i++) {
+            length += switch (kinds[i]) {
+                case YEAR -> 4;
+                case MONTH_NAME -> maxMonthNameBytes(); // month names are ASCII
+                case LITERAL -> literals[i].length();
+                default -> 2;
+            };
+        }
+        return length;
+    }
+
+    /**
+     * Returns the largest number of UTF-8 bytes {@link #formatTo(BsDate, byte[], int)} writes
+     * for a date whose year has at most four digits.
+     */
+    public int maxEncodedLength() {
+        int digitBytes = devanagari ? 3 : 1;
+        int length = 0;
+        for (int i = 0; i < kinds.length; i++) {
+            length += switch (kinds[i]) {
+                case YEAR -> 4 * digitBytes;
+                case MONTH_NAME -> maxMonthNameBytes();
+                case LITERAL -> literalBytes[i].length;
+                default -> 2 * digitBytes;
+            };
+        }
+        return length;
+    }
+
+    /**
+     * Parses the whole of {@code text} into a {@link BsDate}.
+     *
+     * @throws NepaliCalendarException with {@code INVALID_BS_DATE} if the text does not match the pattern.
+     */
+    public BsDate parse(CharSequence text) {
+        int packed = parsePacked(text);
+        return new BsDate(PackedBsDate.year(packed), BsMonth.fromValue(PackedBsDate.month(packed)),
+                PackedBsDate.day(packed));
+    }
+
+    /**
+     * Parses the whole of {@code text} into a packed date.
+     *
+     * @return A date encoded as described in {@link PackedBsDate}.
+     * @throws NepaliCalendarException with {@code INVALID_BS_DATE} if the text does not match the pattern.
+     */
+    public int parsePacked(CharSequence text) {
+        return parsePacked(text, 0, text.length());
+    }
+
+    /**
+     * Parses {@code text[from, to)} into a packed date.
+     *
+     * @return A date encoded as described in {@link PackedBsDate}.
+     * @throws NepaliCalendarException with {@code INVALID_BS_DATE} if the text does not match the pattern.
+     */
+    public int parsePacked(CharSequence text, int from, int to) {
+        int result = parse(text, from, to);
+        if (result < 0) {
+            throw parseError(text.subSequence(from, to), -result - 1 - from);
+        }
+        return result;
+    }
+
+    /**
+     * Parses the UTF-8 bytes {@code bytes[from, to)} into a packed date.
+     *
+     * @return A date encoded as described in {@link PackedBsDate}.
+     * @throws NepaliCalendarException with {@code INVALID_BS_DATE} if the bytes do not match the pattern.
+     */
+    public int parsePacked(byte[] bytes, int from, int to) {
+        int result = parse(bytes, from, to);
+        if (result < 0) {
+            throw parseError(new String(bytes, from, to - from, StandardCharsets.UTF_8), -result - 1 - from);
+        }
+        return result;
+    }
+
+    /**
+     * Parses the characters {@code chars[from, to)} into a packed date, e.g. straight from a
+     * JSON parser's text buffer.
+     *
+     * @return A date encoded as described in {@link PackedBsDate}.
+     * @throws NepaliCalendarException with {@code INVALID_BS_DATE} if the characters do not match the pattern.
+     */
+    public int parsePacked(char[] chars, int from, int to) {
+        int result = parse(chars, from, to);
+        if (result < 0) {
+            throw parseError(new String(chars, from, to - from), -result - 1 - from);
+        }
+        return result;
+    }
+
+    /**
+     * Same as {@link #parsePacked(CharSequence, int, int)}, but returns {@link PackedBsDate#INVALID}
+     * instead of throwing.
+     */
+    public int tryParsePacked(CharSequence text, int from, int to) {
+        return Math.max(parse(text, from, to), PackedBsDate.INVALID);
+    }
+
+    /**
+     * Same as {@link #parsePacked(byte[], int, int)}, but returns {@link PackedBsDate#INVALID}
+     * instead of throwing.
+     */
+    public int tryParsePacked(byte[] bytes, int from, int to) {
+        return Math.max(parse(bytes, from, to), PackedBsDate.INVALID);
+    }
+
+    /**
+     * Same as {@link #parsePacked(char[], int, int)}, but returns {@link PackedBsDate#INVALID}
+     * instead of throwing.
+     */
+    public int tryParsePacked(char[] chars, int from, int to) {
+        return Math.max(parse(chars, from, to), PackedBsDate.INVALID);
+    }
+
+    /**
+     * Returns the packed date on success, or {@code -(errorIndex + 1)} on failure.
+     *
+     * @param input A {@link CharSequence}, {@code char[]} or UTF-8 {@code byte[]}.
+     */
+    private int parse(Object input, int from, int to) {
+        int year = 0;
+        int month = 0;
+        int day = 0;
+        int p = from;
+        for (int i = 0; i < kinds.length; i++) {
+            int kind = kinds[i];
+            if (kind == LITERAL) {
+                int end = match(input, p, to, literals[i], literalBytes[i]);
+                if (end < 0) {
+                    return -(p + 1);
+                }
+                p = end;
+                continue;
+            }
+            if (kind == MONTH_NAME) {
+                int end = -1;
+                for (BsMonth candidate : MONTHS) {
+                    end = matchIgnoreCase(input, p, to, candidate.getName());
+                    if (end >= 0) {
+                        month = candidate.getValue();
+                        break;
+                    }
+                }
+                if (end < 0) {
+                    return -(p + 1);
+                }
+                p = end;
+                continue;
+            }
+
+            // Fixed-width fields take exactly their width; unpadded ones take one or two digits.
+            int minDigits = kind == YEAR ? 4 : widths[i];
+            int maxDigits = kind == YEAR ? 4 : 2;
+            int value = 0;
+            int digits = 0;
+            int start = p;
+            while (digits < maxDigits && p < to) {
+                int digit = digit(input, p, to);
+                if (digit < 0) {
+                    break;
+                }
+                value = value * 10 + digit;
+                p = next(input, p);
+                digits++;
+            }
+            if (digits < minDigits) {
+                return -(p + 1);
+            }
+            switch (kind) {
+                case YEAR -> year = value;
+                case YEAR_OF_CENTURY -> year = 2000 + value;
+                case MONTH -> {
+                    if (value < 1 || value > 12) {
+                        return -(start + 1);
+                    }
+                    month = value;
+                }
+                default -> {
+                    if (value < 1 || value > 32) {
+                        return -(start + 1);
+                    }
+                    day = value;
+                }
+            }
+        }
+        if (p != to) {
+            return -(p + 1);
+        }
+        if (month == 0 || day == 0) {
+            return -(from + 1);
+        }
+        return PackedBsDate.of(year, month, day);
+    }
+
+    @Override
+    public String toString() {
+        return devanagari ? pattern + " (Devanagari digits)" : pattern;
+    }
+
+    private static void appendNumber(StringBuilder target, int value, int width, char zero) {
+        if (value < 0) {
+            target.append('-');
+            value = -value;
+        }
+        int digits = digitCount(value);
+        for (int i = digits; i < width; i++) {
+            target.append(zero);
+        }
+        int divisor = 1;
+        for (int i = 1; i < digits; i++) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            target.append((char) (zero + value / divisor % 10));
+        }
+    }
+
+    private static int writeNumber(char[] buffer, int offset, int value, int width, char zero) {
+        int p = offset;
+        if (value < 0) {
+            buffer[p++] = '-';
+            value = -value;
+        }
+        int digits = digitCount(value);
+        for (int i = digits; i < width; i++) {
+            buffer[p++] = zero;
+        }
+        int divisor = 1;
+        for (int i = 1; i < digits; i++) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            buffer[p++] = (char) (zero + value / divisor % 10);
+        }
+        return p;
+    }
+
+    private int writeNumber(byte[] buffer, int offset, int value, int width) {
+        int p = offset;
+        if (value < 0) {
+            buffer[p++] = '-';
+            value = -value;
+        }
+        int digits = digitCount(value);
+        for (int i = digits; i < width; i++) {
+            p = writeDigit(buffer, p, 0);
+        }
+        int divisor = 1;
+        for (int i = 1; i < digits; i++) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            p = writeDigit(buffer, p, value / divisor % 10);
+        }
+        return p;
+    }
+
+    private int writeDigit(byte[] buffer, int offset, int digit) {
+        if (!devanagari) {
+            buffer[offset] = (byte) ('0' + digit);
+            return offset + 1;
+        }
+        // U+0966..U+096F encode as E0 A5 A6..AF
+        buffer[offset] = (byte) 0xE0;
+        buffer[offset + 1] = (byte) 0xA5;
+        buffer[offset + 2] = (byte) (0xA6 + digit);
+        return offset + 3;
+    }
+
+    private static int digitCount(int value) {
+        int digits = 1;
+        while (value >= 10) {
+            value /= 10;
+            digits++;
+        }
+        return digits;
+    }
+
+    private static int maxMonthNameBytes() {
+        int max = 0;
+        for (byte[] name : MONTH_NAME_BYTES) {
+            max = Math.max(max, name.length);
+        }
+        return max;
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static IllegalArgumentException invalidCount(char letter, int count, String pattern) {
+        return new IllegalArgumentException("Invalid number of '" + letter + "' (" + count + ") in " + pattern);
+    }
+
+    private NepaliCalendarException parseError(CharSequence text, int index) {
+        return new NepaliCalendarException(
+                "Text '" + text + "' does not match pattern " + pattern + " at index " + index,
+                NepaliCalendarException.ErrorCode.INVALID_BS_DATE
+        );
+    }
+
+    // The parser reads CharSequences, char arrays and UTF-8 byte arrays through these helpers
+    // instead of a wrapper object, so parsing allocates nothing.
+
+    /**
+     * Returns the value of the ASCII or Devanagari digit at {@code index}, or {@code -1}.
+     */
+    private static int digit(Object source, int index, int limit) {
+        if (source instanceof byte[] bytes) {
+            int b = bytes[index];
+            if (b >= '0' && b <= '9') {
+                return b - '0';
+            }
+            if (b == (byte) 0xE0 && index + 2 < limit && bytes[index + 1] == (byte) 0xA5) {
+                int digit = (bytes[index + 2] & 0xFF) - 0xA6;
+                return digit >= 0 && digit <= 9 ? digit : -1;
+            }
+            return -1;
+        }
+        char c = charAt(source, index);
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= DEVANAGARI_ZERO && c <= DEVANAGARI_ZERO + 9) {
+            return c - DEVANAGARI_ZERO;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index after the digit at {@code index}.
+     */
+    private static int next(Object source, int index) {
+        return source instanceof byte[] bytes && bytes[index] < 0 ? index + 3 : index + 1;
+    }
+
+    /**
+     * Returns the index after {@code expected} (whose UTF-8 form is {@code utf8}) if it occurs
+     * at {@code index}, or {@code -1}.
+     */
+    private static int match(Object source, int index, int limit, String expected, byte[] utf8) {
+        if (source instanceof byte[] bytes) {
+            int end = index + utf8.length;
+            if (end > limit) {
+                return -1;
+            }
+            for (int i = 0; i < utf8.length; i++) {
+                if (bytes[index + i] != utf8[i]) {
+                    return -1;
+                }
+            }
+            return end;
+        }
+        int end = index + expected.length();
+        if (end > limit) {
+            return -1;
+        }
+        for (int i = 0; i < expected.length(); i++) {
+            if (charAt(source, index + i) != expected.charAt(i)) {
+                return -1;
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Returns the index after the ASCII {@code expected} if it occurs at {@code index} in any case, or {@code -1}.
+     */
+    private static int matchIgnoreCase(Object source, int index, int limit, String expected) {
+        int end = index + expected.length();
+        if (end > limit) {
+            return -1;
+        }
+        for (int i = 0; i < expected.length(); i++) {
+            int c = source instanceof byte[] bytes ? bytes[index + i] : charAt(source, index + i);
+            if ((c | 0x20) != (expected.charAt(i) | 0x20)) {
+                return -1;
+            }
+        }
+        return end;
+    }
+
+    private static char charAt(Object source, int index) {
+        return source instanceof char[] chars ? chars[index] : ((CharSequence) source).charAt(index);
+    }
+}
@@ -0,0 +1,405 @@
+package com.github.scoolfx.io;
+
+import com.github.scoolfx.converter.NepaliDateConverter;
+import com.github.scoolfx.format.BsDateFormatter;
+import com.github.scoolfx.model.PackedBsDate;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Streams a delimited text file (CSV, TSV, ...) and inserts a B.S. date column
+ * right after an existing {@code yyyy-MM-dd} A.D. date column.
+ * <p>
+ * Input is read through NIO channels in large blocks and every row is handled
+ * directly on the bytes: the A.D. date is parsed without {@link java.time.LocalDate},
+ * converted through {@link NepaliDateConverter#tryToBsPacked(long)} and written back through a
+ * {@link BsDateFormatter} ({@code yyyy-MM-dd} by default), so no objects are created per row. Rows whose date field
+ * is missing, malformed or outside the supported range get an empty B.S. field;
+ * rows with fewer fields than the date column are copied unchanged.
+ * <p>
+ * Fields may be wrapped in double quotes; delimiters and line breaks inside quotes are ignored,
+ * so a quoted field may span several lines. Empty lines are copied through unchanged and are not
+ * counted as rows.
+ * <p>
+ * A row longer than the maximum row length (by default {@value #DEFAULT_MAX_ROW_LENGTH} bytes) is
+ * copied through unchanged and counted as a failure, and quote tracking restarts at the next line
+ * break. This keeps a single unbalanced quote from turning the rest of a large file into one row.
+ * Instances are immutable and may be shared across threads.
+ */
+public final class DateColumnConverter {
+
+    /**
+     * Name given to the inserted column when the input has a header row.
+     */
+    public static final String HEADER_NAME = "bs_date";
+
+    /**
+     * The default maximum length of a row in bytes, including its line terminator.
+     */
+    public static final int DEFAULT_MAX_ROW_LENGTH = 4 << 20;
+
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final long DAYS_0000_TO_1970 = 719528L;
+    private static final byte[] HEADER_BYTES = HEADER_NAME.getBytes(StandardCharsets.US_ASCII);
+
+    private final NepaliDateConverter converter;
+    private final int column;
+    private final byte delimiter;
+    private final boolean header;
+    private final BsDateFormatter formatter;
+    private final int maxDateLength;
+    private final int maxRowLength;
+
+    /**
+     * Creates a converter for one date column that writes B.S. dates as {@code yyyy-MM-dd}.
+     *
+     * @param converter The converter providing the calendar data.
+     * @param column    The zero-based index of the A.D. date column.
+     * @param delimiter The field delimiter, e.g. {@code ','} or {@code '\t'}.
+     * @param header    Whether the first row is a header row.
+     */
+    public DateColumnConverter(NepaliDateConverter converter, int column, char delimiter, boolean header) {
+        this(converter, column, delimiter, header, BsDateFormatter.ISO);
+    }
+
+    /**
+     * Creates a converter for one date column that writes B.S. dates with the given formatter.
+     *
+     * @param converter The converter providing the calendar data.
+     * @param column    The zero-based index of the A.D. date column.
+     * @param delimiter The field delimiter, e.g. {@code ','} or {@code '\t'}.
+     * @param header    Whether the first row is a header row.
+     * @param formatter The format of the inserted B.S. dates.
+     */
+    public DateColumnConverter(NepaliDateConverter converter, int column, char delimiter, boolean header,
+                               BsDateFormatter formatter) {
+        this(converter, column, delimiter, header, formatter, DEFAULT_MAX_ROW_LENGTH);
+    }
+
+    /**
+     * Creates a converter for one date column that writes B.S. dates with the given formatter
+     * and copies rows longer than {@code maxRowLength} bytes through unconverted.
+     *
+     * @param converter    The converter providing the calendar data.
+     * @param column       The zero-based index of the A.D. date column.
+     * @param delimiter    The field delimiter, e.g. {@code ','} or {@code '\t'}.
+     * @param header       Whether the first row is a header row.
+     * @param formatter    The format of the inserted B.S. dates.
+     * @param maxRowLength The maximum length of a row in bytes, including its line terminator.
+     */
+    public DateColumnConverter(NepaliDateConverter converter, int column, char delimiter, boolean header,
+                               BsDateFormatter formatter, int maxRowLength) {
+        if (column < 0) {
+            throw new IllegalArgumentException("Column index must not be negative");
+        }
+        if (delimiter > 0x7F || delimiter == '"' || delimiter == '\n' || delimiter == '\r') {
+            throw new IllegalArgumentException("Unsupported delimiter: " + delimiter);
+        }
+        if (formatter == null) {
+            throw new IllegalArgumentException("Formatter must not be null");
+        }
+        if (maxRowLength < 1) {
+            throw new IllegalArgumentException("Maximum row length must be positive");
+        }
+        this.converter = converter;
+        this.column = column;
+        this.delimiter = (byte) delimiter;
+        this.header = header;
+        this.formatter = formatter;
+        this.maxDateLength = formatter.maxEncodedLength();
+        this.maxRowLength = maxRowLength;
+    }
+
+    /**
+     * Converts the {@code input} file into the {@code output} file, replacing the output if it exists.
+     *
+     * @return A summary of the processed rows.
+     * @throws IOException if either file cannot be read or written.
+     */
+    public Summary convert(Path input, Path output) throws IOException {
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(output, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                     StandardOpenOption.TRUNCATE_EXISTING)) {
+            return convert(in, out);
+        }
+    }
+
+    /**
+     * Converts everything readable from {@code in} and writes the result to {@code out}.
+     * Neither channel is closed.
+     *
+     * @return A summary of the processed rows.
+     * @throws IOException if reading or writing fails.
+     */
+    public Summary convert(ReadableByteChannel in, WritableByteChannel out) throws IOException {
+        return new Run(in, out).execute();
+    }
+
+    /**
+     * Row counts for one conversion run. The header row is not counted.
+     *
+     * @param rows     The number of data rows read.
+     * @param failures The number of data rows whose date could not be converted.
+     */
+    public record Summary(long rows, long failures) {
+    }
+
+    /**
+     * State of a single conversion; buffers are per run so the converter itself stays shareable.
+     */
+    private final class Run {
+
+        private final ReadableByteChannel in;
+        private final WritableByteChannel out;
+        private byte[] input = new byte[BUFFER_SIZE];
+        private byte[] output = new byte[BUFFER_SIZE];
+        private int outputPosition;
+        private boolean headerPending = header;
+        private long rows;
+        private long failures;
+
+        Run(ReadableByteChannel in, WritableByteChannel out) {
+            this.in = in;
+            this.out = out;
+        }
+
+        Summary execute() throws IOException {
+            int start = 0;
+            int limit = 0;
+            int scan = 0;
+            boolean quoted = false;
+            boolean overlong = false;
+            while (true) {
+                int read = in.read(ByteBuffer.wrap(input, limit, input.length - limit));
+                if (read > 0) {
+                    limit += read;
+                }
+
+                while (scan < limit) {
+                    byte b = input[scan];
+                    if (overlong) {
+                        // Copy the rest of the row through and resync at the next line break
+                        if (b == '\n') {
+                            append(start, scan + 1);
+                            start = scan + 1;
+                            overlong = false;
+                        }
+                    } else if (b == '"') {
+                        quoted = !quoted;
+                    } else if (b == '\n' && !quoted) {
+                        processLine(start, scan + 1);
+                        start = scan + 1;
+                    }
+                    scan++;
+                    if (!overlong && scan - start > maxRowLength) {
+                        skipRow();
+                        append(start, scan);
+                        start = scan;
+                        overlong = true;
+                        quoted = false;
+                    }
+                }
+                if (overlong && start < limit) {
+                    append(start, limit);
+                    start = limit;
+                }
+
+                if (read < 0) {
+                    if (start < limit) {
+                        processLine(start, limit);
+                    }
+                    break;
+                }
+
+                int remaining = limit - start;
+                if (remaining == input.length) {
+                    byte[] grown = new byte[input.length * 2];
+                    System.arraycopy(input, 0, grown, 0, remaining);
+                    input = grown;
+                } else if (start > 0) {
+                    System.arraycopy(input, start, input, 0, remaining);
+                }
+                start = 0;
+                limit = remaining;
+                scan = remaining;
+            }
+            flush();
+            return new Summary(rows, failures);
+        }
+
+        /**
+         * Counts a row that is copied through unconverted.
+         */
+        private void skipRow() {
+            if (headerPending) {
+                headerPending = false;
+            } else {
+                rows++;
+                failures++;
+            }
+        }
+
+        /**
+         * Handles one row spanning {@code [from, to)}, including its line terminator if present.
+         */
+        private void processLine(int from, int to) throws IOException {
+            int fieldStart = from;
+            int field = 0;
+            boolean quoted = false;
+            int end = lineContentEnd(from, to);
+            if (end == from) {
+                append(from, to);
+                return;
+            }
+            int i = from;
+            while (i < end && field < column) {
+                byte b = input[i++];
+                if (b == '"') {
+                    quoted = !quoted;
+                } else if (b == delimiter && !quoted) {
+                    field++;
+                    fieldStart = i;
+                }
+            }
+            if (field < column) {
+                skipRow();
+                append(from, to);
+                return;
+            }
+
+            int fieldEnd = fieldStart;
+            quoted = false;
+            while (fieldEnd < end) {
+                byte b = input[fieldEnd];
+                if (b == '"') {
+                    quoted = !quoted;
+                } else if (b == delimiter && !quoted) {
+                    break;
+                }
+                fieldEnd++;
+            }
+
+            ensureCapacity(to - from + 1 + Math.max(maxDateLength, HEADER_BYTES.length));
+            append(from, fieldEnd);
+            output[outputPosition++] = delimiter;
+            if (headerPending) {
+                headerPending = false;
+                System.arraycopy(HEADER_BYTES, 0, output, outputPosition, HEADER_BYTES.length);
+                outputPosition += HEADER_BYTES.length;
+            } else {
+                rows++;
+                int packed = convertField(fieldStart, fieldEnd);
+                if (packed == PackedBsDate.INVALID) {
+                    failures++;
+                } else {
+                    outputPosition = formatter.formatPackedTo(packed, output, outputPosition);
+                }
+            }
+            append(fieldEnd, to);
+        }
+
+        private int lineContentEnd(int from, int to) {
+            int end = to;
+            if (end > from && input[end - 1] == '\n') {
+                end--;
+            }
+            if (end > from && input[end - 1] == '\r') {
+                end--;
+            }
+            return end;
+        }
+
+        /**
+         * Parses a {@code yyyy-MM-dd} field (optionally quoted) and returns the packed B.S. date,
+         * or {@link PackedBsDate#INVALID} if the field is not a supported date.
+         */
+        private int convertField(int from, int to) {
+            if (to - from == 12 && input[from] == '"' && input[to - 1] == '"') {
+                from++;
+                to--;
+            }
+            if (to - from != 10 || input[from + 4] != '-' || input[from + 7] != '-') {
+                return PackedBsDate.INVALID;
+            }
+            int year = digits(from, 4);
+            int month = digits(from + 5, 2);
+            int day = digits(from + 8, 2);
+            if (year < 0 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+                return PackedBsDate.INVALID;
+            }
+            return converter.tryToBsPacked(epochDay(year, month, day));
+        }
+
+        private int digits(int from, int count) {
+            int value = 0;
+            for (int i = from; i < from + count; i++) {
+                int digit = input[i] - '0';
+                if (digit < 0 || digit > 9) {
+                    return -1;
+                }
+                value = value * 10 + digit;
+            }
+            return value;
+        }
+
+        private void append(int from, int to) throws IOException {
+            int length = to - from;
+            ensureCapacity(length);
+            System.arraycopy(input, from, output, outputPosition, length);
+            outputPosition += length;
+        }
+
+        private void ensureCapacity(int length) throws IOException {
+            if (output.length - outputPosition >= length) {
+                return;
+            }
+            flush();
+            if (output.length < length) {
+                output = new byte[Math.max(length, output.length * 2)];
+            }
+        }
+
+        private void flush() throws IOException {
+            ByteBuffer buffer = ByteBuffer.wrap(output, 0, outputPosition);
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            outputPosition = 0;
+        }
+    }
+
+    private static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> isLeapYear(year) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    /**
+     * Same arithmetic as {@link java.time.LocalDate#toEpochDay()} for non-negative, already validated dates.
+     */
+    private static long epochDay(int year, int month, int day) {
+        long total = 365L * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (!isLeapYear(year)) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+}
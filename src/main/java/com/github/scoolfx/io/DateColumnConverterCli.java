@@ -0,0 +1,102 @@
+package com.github.scoolfx.io;
+
+import com.github.scoolfx.converter.NepaliDateConverter;
+import com.github.scoolfx.format.BsDateFormatter;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Command line entry point for {@link DateColumnConverter}.
+ * <p>
+ * Usage: {@code DateColumnConverterCli <input> <output> <column> [--delimiter=<char>|tab] [--header]
+ *        [--format=<pattern>] [--devanagari]}
+ */
+public final class DateColumnConverterCli {
+
+    private static final String USAGE =
+            "Usage: DateColumnConverterCli <input> <output> <column> [--delimiter=<char>|tab] [--header]"
+                    + " [--format=<pattern>] [--devanagari]";
+
+    private DateColumnConverterCli() {
+    }
+
+    public static void main(String[] args) {
+        System.exit(run(args));
+    }
+
+    /**
+     * Runs the command and returns its exit code: {@code 0} on success, {@code 1} on I/O failure
+     * and {@code 2} on invalid arguments.
+     */
+    static int run(String[] args) {
+        Path input = null;
+        Path output = null;
+        Integer column = null;
+        char delimiter = ',';
+        boolean header = false;
+        String pattern = "yyyy-MM-dd";
+        boolean devanagari = false;
+
+        for (String arg : args) {
+            if (arg.equals("--header")) {
+                header = true;
+            } else if (arg.equals("--devanagari")) {
+                devanagari = true;
+            } else if (arg.startsWith("--format=")) {
+                pattern = arg.substring("--format=".length());
+            } else if (arg.startsWith("--delimiter=")) {
+                String value = arg.substring("--delimiter=".length());
+                if (value.equals("tab") || value.equals("\\t")) {
+                    delimiter = '\t';
+                } else if (value.length() == 1) {
+                    delimiter = value.charAt(0);
+                } else {
+                    return usage("Delimiter must be a single character or 'tab'");
+                }
+            } else if (input == null) {
+                input = Path.of(arg);
+            } else if (output == null) {
+                output = Path.of(arg);
+            } else if (column == null) {
+                try {
+                    column = Integer.parseInt(arg);
+                } catch (NumberFormatException e) {
+                    return usage("Column must be a number: " + arg);
+                }
+            } else {
+                return usage("Unexpected argument: " + arg);
+            }
+        }
+        if (column == null) {
+            return usage(null);
+        }
+
+        try {
+            BsDateFormatter formatter = BsDateFormatter.ofPattern(pattern);
+            if (devanagari) {
+                formatter = formatter.withDevanagariDigits();
+            }
+            var converter = new DateColumnConverter(new NepaliDateConverter(), column, delimiter, header, formatter);
+            long start = System.nanoTime();
+            DateColumnConverter.Summary summary = converter.convert(input, output);
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            System.err.println("Converted " + summary.rows() + " rows (" + summary.failures()
+                    + " without a supported date) in " + millis + " ms");
+            return 0;
+        } catch (IllegalArgumentException e) {
+            return usage(e.getMessage());
+        } catch (IOException e) {
+            System.err.println("Error: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    private static int usage(String message) {
+        if (message != null) {
+            System.err.println("Error: " + message);
+        }
+        System.err.println(USAGE);
+        return 2;
+    }
+}
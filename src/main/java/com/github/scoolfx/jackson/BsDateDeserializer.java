@@ -0,0 +1,84 @@
+package com.github.scoolfx.jackson;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonTokenId;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.github.scoolfx.exception.NepaliCalendarException;
+import com.github.scoolfx.format.BsDateFormatter;
+import com.github.scoolfx.model.BsDate;
+import com.github.scoolfx.model.PackedBsDate;
+
+import java.io.IOException;
+
+/**
+ * Reads {@link BsDate} from a formatted string or a packed {@code int}.
+ * <p>
+ * Like {@link BsDateFormatter}, this checks that the month is 1-12 and the day 1-32 but does not
+ * consult the calendar data.
+ *
+ * @see BsDateModule
+ */
+public final class BsDateDeserializer extends StdScalarDeserializer<BsDate> implements ContextualDeserializer {
+
+    private final BsDateFormatter formatter;
+
+    /**
+     * Creates a deserializer that parses {@code yyyy-MM-dd} strings, e.g. for {@code @JsonDeserialize(using = ...)}.
+     */
+    public BsDateDeserializer() {
+        this(BsDateFormatter.ISO);
+    }
+
+    BsDateDeserializer(BsDateFormatter formatter) {
+        super(BsDate.class);
+        this.formatter = formatter;
+    }
+
+    @Override
+    public BsDate deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        switch (p.currentTokenId()) {
+            case JsonTokenId.ID_STRING -> {
+                // Parse from the parser's buffer rather than p.getText(), which would create a String
+                char[] chars = p.getTextCharacters();
+                int offset = p.getTextOffset();
+                try {
+                    return PackedBsDate.toBsDate(formatter.parsePacked(chars, offset, offset + p.getTextLength()));
+                } catch (NepaliCalendarException e) {
+                    return (BsDate) ctxt.handleWeirdStringValue(BsDate.class, p.getText(), "%s", e.getMessage());
+                }
+            }
+            case JsonTokenId.ID_NUMBER_INT -> {
+                int packed = p.getIntValue();
+                if (packed < 0) {
+                    return (BsDate) ctxt.handleWeirdNumberValue(BsDate.class, packed, "not a packed B.S. date");
+                }
+                int year = PackedBsDate.year(packed);
+                int month = PackedBsDate.month(packed);
+                int day = PackedBsDate.day(packed);
+                // The serializer writes four-digit years, so anything else cannot be one of ours
+                if (year > 9999 || month < 1 || month > 12 || day < 1 || day > 32) {
+                    return (BsDate) ctxt.handleWeirdNumberValue(BsDate.class, packed,
+                            "not a packed B.S. date (year %d, month %d, day %d)", year, month, day);
+                }
+                return PackedBsDate.toBsDate(packed);
+            }
+            default -> {
+                return (BsDate) ctxt.handleUnexpectedToken(BsDate.class, p);
+            }
+        }
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) {
+        JsonFormat.Value format = findFormatOverrides(ctxt, property, handledType());
+        if (format != null && format.hasPattern()) {
+            return new BsDateDeserializer(BsDateFormatter.ofPattern(format.getPattern()));
+        }
+        return this;
+    }
+}
@@ -0,0 +1,67 @@
+package com.github.scoolfx.jackson;
+
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.github.scoolfx.format.BsDateFormatter;
+import com.github.scoolfx.model.BsDate;
+import com.github.scoolfx.model.PackedBsDate;
+
+/**
+ * Jackson module that reads and writes {@link BsDate} as a formatted string ({@code "2081-01-01"})
+ * or as a packed {@code int} ({@code 136380673}, see {@link PackedBsDate}).
+ * <p>
+ * Strings are written from a small {@code char[]} and parsed straight from the parser's text buffer,
+ * so no intermediate {@link String} is created either way. Either form is accepted when reading,
+ * whichever {@link Shape} is used for writing. A property can override the module with
+ * {@code @JsonFormat(shape = JsonFormat.Shape.NUMBER)} or {@code @JsonFormat(pattern = "dd/MM/yyyy")}.
+ * <pre>{@code
+ * ObjectMapper mapper = new ObjectMapper().registerModule(new BsDateModule());
+ * }</pre>
+ * Jackson is an optional dependency of the SDK; add {@code jackson-databind} to use this module.
+ */
+public final class BsDateModule extends SimpleModule {
+
+    /**
+     * How {@link BsDate} values are written.
+     */
+    public enum Shape {
+        /**
+         * A JSON string in the module's format.
+         */
+        STRING,
+        /**
+         * A JSON number holding the {@link PackedBsDate} encoding.
+         */
+        PACKED
+    }
+
+    /**
+     * Creates a module that writes dates as {@code yyyy-MM-dd} strings.
+     */
+    public BsDateModule() {
+        this(Shape.STRING, BsDateFormatter.ISO);
+    }
+
+    /**
+     * Creates a module that writes dates in the given shape; strings use {@code yyyy-MM-dd}.
+     */
+    public BsDateModule(Shape shape) {
+        this(shape, BsDateFormatter.ISO);
+    }
+
+    /**
+     * Creates a module that writes and parses dates as strings in the given format.
+     */
+    public BsDateModule(BsDateFormatter formatter) {
+        this(Shape.STRING, formatter);
+    }
+
+    private BsDateModule(Shape shape, BsDateFormatter formatter) {
+        super("BsDateModule", Version.unknownVersion());
+        if (shape == null || formatter == null) {
+            throw new IllegalArgumentException("Shape and formatter must not be null");
+        }
+        addSerializer(BsDate.class, new BsDateSerializer(shape == Shape.PACKED ? null : formatter));
+        addDeserializer(BsDate.class, new BsDateDeserializer(formatter));
+    }
+}
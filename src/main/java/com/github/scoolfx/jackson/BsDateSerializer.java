@@ -0,0 +1,87 @@
+package com.github.scoolfx.jackson;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.github.scoolfx.format.BsDateFormatter;
+import com.github.scoolfx.model.BsDate;
+import com.github.scoolfx.model.PackedBsDate;
+
+import java.io.IOException;
+
+/**
+ * Writes {@link BsDate} as a formatted string or a packed {@code int}.
+ *
+ * @see BsDateModule
+ */
+public final class BsDateSerializer extends StdSerializer<BsDate> implements ContextualSerializer {
+
+    private static final BsDateSerializer PACKED = new BsDateSerializer(null);
+
+    /**
+     * Scratch space for {@link #serialize}; serializers are shared between threads, so it is per thread.
+     * It grows to the longest {@link BsDateFormatter#maxLength()} seen on that thread.
+     */
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[32]);
+
+    /**
+     * {@code null} when writing packed numbers.
+     */
+    private final BsDateFormatter formatter;
+    private final int maxLength;
+
+    /**
+     * Creates a serializer that writes {@code yyyy-MM-dd} strings, e.g. for {@code @JsonSerialize(using = ...)}.
+     */
+    public BsDateSerializer() {
+        this(BsDateFormatter.ISO);
+    }
+
+    BsDateSerializer(BsDateFormatter formatter) {
+        super(BsDate.class);
+        this.formatter = formatter;
+        this.maxLength = formatter == null ? 0 : formatter.maxLength();
+    }
+
+    @Override
+    public void serialize(BsDate value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (formatter == null) {
+            gen.writeNumber(PackedBsDate.of(value));
+            return;
+        }
+        if (value.year() < 0 || value.year() > 9999) {
+            // maxLength only covers four-digit years
+            gen.writeString(formatter.format(value));
+            return;
+        }
+        // Jackson has no public way to format into its own buffer; this copies from a few chars instead of a String
+        char[] buffer = BUFFER.get();
+        if (buffer.length < maxLength) {
+            buffer = new char[maxLength];
+            BUFFER.set(buffer);
+        }
+        gen.writeString(buffer, 0, formatter.formatTo(value, buffer, 0));
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) {
+        JsonFormat.Value format = findFormatOverrides(provider, property, handledType());
+        if (format == null) {
+            return this;
+        }
+        if (format.hasPattern()) {
+            return new BsDateSerializer(BsDateFormatter.ofPattern(format.getPattern()));
+        }
+        if (format.getShape().isNumeric()) {
+            return PACKED;
+        }
+        if (format.getShape() == JsonFormat.Shape.STRING && formatter == null) {
+            return new BsDateSerializer();
+        }
+        return this;
+    }
+}
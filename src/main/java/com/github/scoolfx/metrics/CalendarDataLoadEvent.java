@@ -0,0 +1,49 @@
+package com.github.scoolfx.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event for loading and validating calendar data.
+ * <p>
+ * The event is committed after the load with its duration in {@link #loadTime}, and only if Flight
+ * Recorder is already running, so the JFR classes are never loaded just to report a data load.
+ */
+@Name("com.github.scoolfx.CalendarDataLoad")
+@Label("Calendar Data Load")
+@Category({"Nepali Calendar SDK"})
+@Description("Loading and validating Bikram Sambat calendar data")
+final class CalendarDataLoadEvent extends Event {
+
+    @Label("Source")
+    String source;
+
+    @Label("First Year")
+    int minYear;
+
+    @Label("Last Year")
+    int maxYear;
+
+    @Label("Success")
+    boolean success;
+
+    @Label("Load Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long loadTime;
+
+    static void emit(String source, int minYear, int maxYear, boolean success, long loadTime) {
+        CalendarDataLoadEvent event = new CalendarDataLoadEvent();
+        if (event.isEnabled()) {
+            event.source = source;
+            event.minYear = minYear;
+            event.maxYear = maxYear;
+            event.success = success;
+            event.loadTime = loadTime;
+            event.commit();
+        }
+    }
+}
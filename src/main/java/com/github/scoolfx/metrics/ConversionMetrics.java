@@ -0,0 +1,211 @@
+package com.github.scoolfx.metrics;
+
+import com.github.scoolfx.exception.NepaliCalendarException;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory {@link MetricsSink} built on {@link LongAdder}s, so concurrent updates from many
+ * threads do not contend on a single counter.
+ * <p>
+ * Latencies are kept in a histogram per operation with power-of-two nanosecond buckets; reading
+ * a histogram returns an immutable {@link LatencySnapshot}.
+ */
+public final class ConversionMetrics implements MetricsSink {
+
+    private static final Operation[] OPERATIONS = Operation.values();
+    private static final NepaliCalendarException.ErrorCode[] ERROR_CODES = NepaliCalendarException.ErrorCode.values();
+    private static final int BUCKETS = 64;
+
+    private final LongAdder[] conversions = adders(OPERATIONS.length);
+    private final LongAdder[] failures = adders(OPERATIONS.length * ERROR_CODES.length);
+    private final LongAdder[] batchElements = adders(OPERATIONS.length);
+    private final LongAdder[] batchFailures = adders(OPERATIONS.length);
+    private final LongAdder[] latencyBuckets = adders(OPERATIONS.length * BUCKETS);
+    private final LongAdder[] latencyTotals = adders(OPERATIONS.length);
+    private final LongAdder dataLoads = new LongAdder();
+    private final LongAdder dataLoadFailures = new LongAdder();
+    private volatile long lastDataLoadNanos = -1;
+
+    @Override
+    public void recordConversion(Operation operation) {
+        conversions[operation.ordinal()].increment();
+    }
+
+    @Override
+    public void recordFailure(Operation operation, NepaliCalendarException.ErrorCode errorCode) {
+        failures[operation.ordinal() * ERROR_CODES.length + errorCode.ordinal()].increment();
+    }
+
+    @Override
+    public void recordBatch(Operation operation, int size, int failures) {
+        batchElements[operation.ordinal()].add(size);
+        batchFailures[operation.ordinal()].add(failures);
+    }
+
+    @Override
+    public void recordLatency(Operation operation, long nanos) {
+        int bucket = BUCKETS - Long.numberOfLeadingZeros(Math.max(nanos, 0));
+        latencyBuckets[operation.ordinal() * BUCKETS + Math.min(bucket, BUCKETS - 1)].increment();
+        latencyTotals[operation.ordinal()].add(nanos);
+    }
+
+    @Override
+    public void recordDataLoad(String source, int years, long nanos) {
+        dataLoads.increment();
+        lastDataLoadNanos = nanos;
+    }
+
+    @Override
+    public void recordDataLoadFailure(String source, NepaliCalendarException.ErrorCode errorCode, long nanos) {
+        dataLoadFailures.increment();
+    }
+
+    /**
+     * Returns the number of single conversions of the given kind, including failed ones.
+     */
+    public long getConversions(Operation operation) {
+        return conversions[operation.ordinal()].sum();
+    }
+
+    /**
+     * Returns the number of single conversions of the given kind that failed with the given code.
+     */
+    public long getFailures(Operation operation, NepaliCalendarException.ErrorCode errorCode) {
+        return failures[operation.ordinal() * ERROR_CODES.length + errorCode.ordinal()].sum();
+    }
+
+    /**
+     * Returns the number of single conversions of any kind that failed with the given code.
+     */
+    public long getFailures(NepaliCalendarException.ErrorCode errorCode) {
+        long total = 0;
+        for (Operation operation : OPERATIONS) {
+            total += getFailures(operation, errorCode);
+        }
+        return total;
+    }
+
+    /**
+     * Returns the number of elements passed to bulk calls of the given kind.
+     */
+    public long getBatchElements(Operation operation) {
+        return batchElements[operation.ordinal()].sum();
+    }
+
+    /**
+     * Returns the number of elements of bulk calls of the given kind that could not be converted.
+     */
+    public long getBatchFailures(Operation operation) {
+        return batchFailures[operation.ordinal()].sum();
+    }
+
+    /**
+     * Returns the sampled latencies recorded for the given operation.
+     */
+    public LatencySnapshot getLatency(Operation operation) {
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = latencyBuckets[operation.ordinal() * BUCKETS + i].sum();
+        }
+        return new LatencySnapshot(counts, latencyTotals[operation.ordinal()].sum());
+    }
+
+    public long getDataLoads() {
+        return dataLoads.sum();
+    }
+
+    public long getDataLoadFailures() {
+        return dataLoadFailures.sum();
+    }
+
+    /**
+     * Returns how long the most recent successful data load took, or {@code -1} if none was recorded.
+     */
+    public long getLastDataLoadNanos() {
+        return lastDataLoadNanos;
+    }
+
+    /**
+     * Clears all counters and histograms.
+     */
+    public void reset() {
+        for (LongAdder[] group : new LongAdder[][]{conversions, failures, batchElements, batchFailures,
+                latencyBuckets, latencyTotals}) {
+            for (LongAdder adder : group) {
+                adder.reset();
+            }
+        }
+        dataLoads.reset();
+        dataLoadFailures.reset();
+        lastDataLoadNanos = -1;
+    }
+
+    private static LongAdder[] adders(int count) {
+        LongAdder[] adders = new LongAdder[count];
+        for (int i = 0; i < count; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    /**
+     * A point-in-time copy of a latency histogram. Bucket {@code i} counts samples in
+     * {@code [2^(i-1), 2^i)} nanoseconds; bucket 0 counts samples of 0 ns.
+     *
+     * @param buckets    The sample count per bucket.
+     * @param totalNanos The sum of all samples.
+     */
+    public record LatencySnapshot(long[] buckets, long totalNanos) {
+
+        public LatencySnapshot {
+            buckets = buckets.clone();
+        }
+
+        @Override
+        public long[] buckets() {
+            return buckets.clone();
+        }
+
+        /**
+         * Returns the number of samples.
+         */
+        public long count() {
+            long count = 0;
+            for (long bucket : buckets) {
+                count += bucket;
+            }
+            return count;
+        }
+
+        /**
+         * Returns the mean sample in nanoseconds, or {@code 0} if there are no samples.
+         */
+        public double mean() {
+            long count = count();
+            return count == 0 ? 0 : (double) totalNanos / count;
+        }
+
+        /**
+         * Returns an upper bound, in nanoseconds, of the given percentile (0-100), accurate to a factor of two.
+         */
+        public long percentile(double percentile) {
+            if (percentile < 0 || percentile > 100) {
+                throw new IllegalArgumentException("Percentile must be between 0 and 100");
+            }
+            long count = count();
+            if (count == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(percentile / 100 * count);
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= Math.max(rank, 1)) {
+                    return i == 0 ? 0 : (i >= 63 ? Long.MAX_VALUE : (1L << i) - 1);
+                }
+            }
+            return Long.MAX_VALUE;
+        }
+    }
+}
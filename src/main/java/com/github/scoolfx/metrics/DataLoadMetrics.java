@@ -0,0 +1,50 @@
+package com.github.scoolfx.metrics;
+
+import com.github.scoolfx.exception.NepaliCalendarException;
+
+/**
+ * Where {@link com.github.scoolfx.converter.CalendarData#load} reports data loads.
+ * <p>
+ * Loads are passed to the installed {@link MetricsSink} and, while Flight Recorder is running,
+ * recorded as {@code com.github.scoolfx.CalendarDataLoad} events.
+ */
+public final class DataLoadMetrics {
+
+    private static volatile MetricsSink sink = MetricsSink.NONE;
+
+    private DataLoadMetrics() {
+    }
+
+    /**
+     * Installs the sink that receives data load measurements; {@code null} removes it.
+     */
+    public static void setSink(MetricsSink sink) {
+        DataLoadMetrics.sink = sink == null ? MetricsSink.NONE : sink;
+    }
+
+    public static MetricsSink getSink() {
+        return sink;
+    }
+
+    /**
+     * Records a successful load that started at {@code startNanos} ({@link System#nanoTime()}).
+     */
+    public static void loaded(String source, int minYear, int maxYear, long startNanos) {
+        long nanos = System.nanoTime() - startNanos;
+        if (JfrSupport.isRecording()) {
+            CalendarDataLoadEvent.emit(source, minYear, maxYear, true, nanos);
+        }
+        sink.recordDataLoad(source, maxYear - minYear + 1, nanos);
+    }
+
+    /**
+     * Records a failed load that started at {@code startNanos} ({@link System#nanoTime()}).
+     */
+    public static void failed(String source, NepaliCalendarException.ErrorCode errorCode, long startNanos) {
+        long nanos = System.nanoTime() - startNanos;
+        if (JfrSupport.isRecording()) {
+            CalendarDataLoadEvent.emit(source, 0, 0, false, nanos);
+        }
+        sink.recordDataLoadFailure(source, errorCode, nanos);
+    }
+}
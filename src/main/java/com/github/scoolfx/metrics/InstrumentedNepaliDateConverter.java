@@ -0,0 +1,371 @@
+package com.github.scoolfx.metrics;
+
+import com.github.scoolfx.converter.CalendarData;
+import com.github.scoolfx.converter.ConversionResult;
+import com.github.scoolfx.converter.NepaliDateConverter;
+import com.github.scoolfx.exception.NepaliCalendarException;
+import com.github.scoolfx.model.BsDate;
+import com.github.scoolfx.model.PackedBsDate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A {@link NepaliDateConverter} that reports every conversion to a {@link MetricsSink}.
+ * <p>
+ * Each call, throwing or {@code try*}, is counted under its {@link Operation}; failures are counted
+ * per {@link NepaliCalendarException.ErrorCode}, and a sample of calls (one in {@code sampleInterval},
+ * chosen at random) is timed. Conversions slower
+ * than the threshold of {@link SlowConversionEvent} are recorded as Flight Recorder events while a
+ * recording is running. Range streams and iterators are not instrumented.
+ * <p>
+ * Instrumentation is opt-in: a plain {@code NepaliDateConverter} carries none of this cost.
+ */
+public class InstrumentedNepaliDateConverter extends NepaliDateConverter {
+
+    /**
+     * The default sampling interval for latency measurements.
+     */
+    public static final int DEFAULT_SAMPLE_INTERVAL = 64;
+
+    private final MetricsSink sink;
+    private final int sampleMask;
+
+    /**
+     * Creates an instrumented converter backed by the shared calendar data, timing one call in
+     * {@value #DEFAULT_SAMPLE_INTERVAL}.
+     *
+     * @throws NepaliCalendarException with {@code DATA_LOAD_ERROR} if the internal data file is missing or corrupted.
+     */
+    public InstrumentedNepaliDateConverter(MetricsSink sink) {
+        this(sink, DEFAULT_SAMPLE_INTERVAL);
+    }
+
+    /**
+     * Creates an instrumented converter backed by the shared calendar data.
+     *
+     * @param sink           Receives the measurements.
+     * @param sampleInterval Time one call in this many; must be a power of two ({@code 1} times every call).
+     * @throws NepaliCalendarException with {@code DATA_LOAD_ERROR} if the internal data file is missing or corrupted.
+     */
+    public InstrumentedNepaliDateConverter(MetricsSink sink, int sampleInterval) {
+        super();
+        this.sink = checkSink(sink);
+        this.sampleMask = checkInterval(sampleInterval);
+    }
+
+    /**
+     * Creates an instrumented converter pinned to the given calendar data snapshot.
+     *
+     * @param data           The calendar data to convert with.
+     * @param sink           Receives the measurements.
+     * @param sampleInterval Time one call in this many; must be a power of two ({@code 1} times every call).
+     */
+    public InstrumentedNepaliDateConverter(CalendarData data, MetricsSink sink, int sampleInterval) {
+        super(data);
+        this.sink = checkSink(sink);
+        this.sampleMask = checkInterval(sampleInterval);
+    }
+
+    public MetricsSink getSink() {
+        return sink;
+    }
+
+    @Override
+    public BsDate toBs(LocalDate adDate) {
+        long start = start();
+        SlowConversionEvent event = beginEvent();
+        try {
+            return super.toBs(adDate);
+        } catch (NepaliCalendarException e) {
+            fail(Operation.TO_BS, e, event);
+            throw e;
+        } finally {
+            finish(Operation.TO_BS, start, event, 1);
+        }
+    }
+
+    @Override
+    public int toBsPacked(long epochDay) {
+        long start = start();
+        SlowConversionEvent event = beginEvent();
+        try {
+            return super.toBsPacked(epochDay);
+        } catch (NepaliCalendarException e) {
+            fail(Operation.TO_BS_PACKED, e, event);
+            throw e;
+        } finally {
+            finish(Operation.TO_BS_PACKED, start, event, 1);
+        }
+    }
+
+    @Override
+    public BsDate toBs(Instant instant) {
+        long start = start();
+        SlowConversionEvent event = beginEvent();
+        try {
+            return super.toBs(instant);
+        } catch (NepaliCalendarException e) {
+            fail(Operation.TO_BS, e, event);
+            throw e;
+        } finally {
+            finish(Operation.TO_BS, start, event, 1);
+        }
+    }
+
+    @Override
+    public BsDate toBsFromEpochMilli(long epochMilli) {
+        long start = start();
+        SlowConversionEvent event = beginEvent();
+        try {
+            return super.toBsFromEpochMilli(epochMilli);
+        } catch (NepaliCalendarException e) {
+            fail(Operation.TO_BS, e, event);
+            throw e;
+        } finally {
+            finish(Operation.TO_BS, start, event, 1);
+        }
+    }
+
+    @Override
+    public int toBsPackedFromEpochMilli(long epochMilli) {
+        long start = start();
+        SlowConversionEvent event = beginEvent();
+        try {
+            return super.toBsPackedFromEpochMilli(epochMilli);
+        } catch (NepaliCalendarException e) {
+            fail(Operation.TO_BS_PACKED, e, event);
+            throw e;
+        } finally {
+            finish(Operation.TO_BS_PACKED, start, event, 1);
+        }
+    }
+
+    @Override
+    public LocalDate toAd(BsDate bsDate) {
+        long start = start();
+        SlowConversionEvent event = beginEvent();
+        try {
+            // Not super.toAd: it calls toAdEpochDay, which would be counted a second time
+            return LocalDate.ofEpochDay(super.toAdEpochDay(bsDate.year(), bsDate.month().getValue(), bsDate.day()));
+        } catch (NepaliCalendarException e) {
+            fail(Operation.TO_AD, e, event);
+            throw e;
+        } finally {
+            finish(Operation.TO_AD, start, event, 1);
+        }
+    }
+
+    @Override
+    public long toAdEpochDay(int year, int month, int day) {
+        long start = start();
+        SlowConversionEvent event = beginEvent();
+        try {
+            return super.toAdEpochDay(year, month, day);
+        } catch (NepaliCalendarException e) {
+            fail(Operation.TO_AD_EPOCH_DAY, e, event);
+            throw e;
+        } finally {
+            finish(Operation.TO_AD_EPOCH_DAY, start, event, 1);
+        }
+    }
+
+    @Override
+    public ConversionResult<BsDate> tryToBs(LocalDate adDate) {
+        long start = start();
+        SlowConversionEvent event = beginEvent();
+        ConversionResult<BsDate> result = super.tryToBs(adDate);
+        finishTry(Operation.TO_BS, start, event, result.getErrorCode());
+        return result;
+    }
+
+    @Override
+    public int tryToBsPacked(long epochDay) {
+        long start = start();
+        SlowConversionEvent event = beginEvent();
+        int result = super.tryToBsPacked(epochDay);
+        finishTry(Operation.TO_BS_PACKED, start, event,
+                result == PackedBsDate.INVALID ? NepaliCalendarException.ErrorCode.OUT_OF_RANGE : null);
+        return result;
+    }
+
+    @Override
+    public ConversionResult<LocalDate> tryToAd(BsDate bsDate) {
+        long start = start();
+        SlowConversionEvent event = beginEvent();
+        ConversionResult<LocalDate> result = super.tryToAd(bsDate);
+        finishTry(Operation.TO_AD, start, event, result.getErrorCode());
+        return result;
+    }
+
+    @Override
+    public long tryToAdEpochDay(int year, int month, int day) {
+        long start = start();
+        SlowConversionEvent event = beginEvent();
+        long result = super.tryToAdEpochDay(year, month, day);
+        NepaliCalendarException.ErrorCode errorCode = null;
+        if (result == INVALID_EPOCH_DAY) {
+            CalendarData data = getCalendarData();
+            errorCode = year < data.getMinYear() || year > data.getMaxYear()
+                    ? NepaliCalendarException.ErrorCode.OUT_OF_RANGE
+                    : NepaliCalendarException.ErrorCode.INVALID_BS_DATE;
+        }
+        finishTry(Operation.TO_AD_EPOCH_DAY, start, event, errorCode);
+        return result;
+    }
+
+    @Override
+    public int toBs(long[] epochDays, int[] years, int[] months, int[] days, boolean[] errors) {
+        long start = System.nanoTime();
+        SlowConversionEvent event = beginEvent();
+        int failures = super.toBs(epochDays, years, months, days, errors);
+        finishBatch(Operation.BATCH_TO_BS, start, event, epochDays.length, failures);
+        return failures;
+    }
+
+    @Override
+    public int toBsParallel(long[] epochDays, int[] years, int[] months, int[] days, boolean[] errors) {
+        long start = System.nanoTime();
+        SlowConversionEvent event = beginEvent();
+        int failures = super.toBsParallel(epochDays, years, months, days, errors);
+        finishBatch(Operation.BATCH_TO_BS, start, event, epochDays.length, failures);
+        return failures;
+    }
+
+    @Override
+    public int toBs(LocalDate[] adDates, int[] years, int[] months, int[] days, boolean[] errors) {
+        long start = System.nanoTime();
+        SlowConversionEvent event = beginEvent();
+        int failures = super.toBs(adDates, years, months, days, errors);
+        finishBatch(Operation.BATCH_TO_BS, start, event, adDates.length, failures);
+        return failures;
+    }
+
+    @Override
+    public int toBsParallel(LocalDate[] adDates, int[] years, int[] months, int[] days, boolean[] errors) {
+        long start = System.nanoTime();
+        SlowConversionEvent event = beginEvent();
+        int failures = super.toBsParallel(adDates, years, months, days, errors);
+        finishBatch(Operation.BATCH_TO_BS, start, event, adDates.length, failures);
+        return failures;
+    }
+
+    @Override
+    public int toBsFromEpochMilli(long[] epochMillis, int[] years, int[] months, int[] days, boolean[] errors) {
+        long start = System.nanoTime();
+        SlowConversionEvent event = beginEvent();
+        int failures = super.toBsFromEpochMilli(epochMillis, years, months, days, errors);
+        finishBatch(Operation.BATCH_TO_BS, start, event, epochMillis.length, failures);
+        return failures;
+    }
+
+    @Override
+    public int toBsFromEpochMilliParallel(long[] epochMillis, int[] years, int[] months, int[] days,
+                                          boolean[] errors) {
+        long start = System.nanoTime();
+        SlowConversionEvent event = beginEvent();
+        int failures = super.toBsFromEpochMilliParallel(epochMillis, years, months, days, errors);
+        finishBatch(Operation.BATCH_TO_BS, start, event, epochMillis.length, failures);
+        return failures;
+    }
+
+    @Override
+    public int toAd(int[] years, int[] months, int[] days, long[] epochDays, boolean[] errors) {
+        long start = System.nanoTime();
+        SlowConversionEvent event = beginEvent();
+        int failures = super.toAd(years, months, days, epochDays, errors);
+        finishBatch(Operation.BATCH_TO_AD, start, event, years.length, failures);
+        return failures;
+    }
+
+    @Override
+    public int toAdParallel(int[] years, int[] months, int[] days, long[] epochDays, boolean[] errors) {
+        long start = System.nanoTime();
+        SlowConversionEvent event = beginEvent();
+        int failures = super.toAdParallel(years, months, days, epochDays, errors);
+        finishBatch(Operation.BATCH_TO_AD, start, event, years.length, failures);
+        return failures;
+    }
+
+    /**
+     * Returns the start time if this call is sampled, or {@code 0} if it is not.
+     */
+    private long start() {
+        return (ThreadLocalRandom.current().nextInt() & sampleMask) == 0 ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Returns a started event, or {@code null} if Flight Recorder is not running; checking first
+     * keeps the JFR classes from being loaded by applications that never use it.
+     */
+    private static SlowConversionEvent beginEvent() {
+        if (!JfrSupport.isRecording()) {
+            return null;
+        }
+        SlowConversionEvent event = new SlowConversionEvent();
+        event.begin();
+        return event;
+    }
+
+    private void fail(Operation operation, NepaliCalendarException e, SlowConversionEvent event) {
+        sink.recordFailure(operation, e.getErrorCode());
+        if (event != null) {
+            event.failed = true;
+        }
+    }
+
+    private void finish(Operation operation, long start, SlowConversionEvent event, int elements) {
+        sink.recordConversion(operation);
+        if (start != 0) {
+            sink.recordLatency(operation, System.nanoTime() - start);
+        }
+        commit(event, operation, elements);
+    }
+
+    private void finishTry(Operation operation, long start, SlowConversionEvent event,
+                           NepaliCalendarException.ErrorCode errorCode) {
+        if (errorCode != null) {
+            sink.recordFailure(operation, errorCode);
+            if (event != null) {
+                event.failed = true;
+            }
+        }
+        finish(operation, start, event, 1);
+    }
+
+    private void finishBatch(Operation operation, long start, SlowConversionEvent event, int size, int failures) {
+        sink.recordBatch(operation, size, failures);
+        sink.recordLatency(operation, System.nanoTime() - start);
+        if (event != null) {
+            event.failed = failures > 0;
+        }
+        commit(event, operation, size);
+    }
+
+    private static void commit(SlowConversionEvent event, Operation operation, int elements) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = operation.name();
+            event.elements = elements;
+            event.commit();
+        }
+    }
+
+    private static MetricsSink checkSink(MetricsSink sink) {
+        if (sink == null) {
+            throw new IllegalArgumentException("Metrics sink must not be null");
+        }
+        return sink;
+    }
+
+    private static int checkInterval(int sampleInterval) {
+        if (sampleInterval < 1 || Integer.bitCount(sampleInterval) != 1) {
+            throw new IllegalArgumentException("Sample interval must be a positive power of two");
+        }
+        return sampleInterval - 1;
+    }
+}
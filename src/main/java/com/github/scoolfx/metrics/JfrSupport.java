@@ -0,0 +1,32 @@
+package com.github.scoolfx.metrics;
+
+import jdk.jfr.FlightRecorder;
+
+/**
+ * Guards every use of Flight Recorder, so the SDK also runs on runtimes linked without the
+ * {@code jdk.jfr} module.
+ * <p>
+ * Whether the module is present is resolved once; the JFR classes themselves are only touched through
+ * {@link Recorder}, which is not loaded at all when the module is missing.
+ */
+final class JfrSupport {
+
+    private static final boolean AVAILABLE = ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+
+    private JfrSupport() {
+    }
+
+    /**
+     * Returns whether Flight Recorder is available and already running.
+     */
+    static boolean isRecording() {
+        return AVAILABLE && Recorder.isInitialized();
+    }
+
+    private static final class Recorder {
+
+        static boolean isInitialized() {
+            return FlightRecorder.isInitialized();
+        }
+    }
+}
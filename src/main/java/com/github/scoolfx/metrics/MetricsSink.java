@@ -0,0 +1,67 @@
+package com.github.scoolfx.metrics;
+
+import com.github.scoolfx.exception.NepaliCalendarException;
+
+/**
+ * Receives measurements from {@link InstrumentedNepaliDateConverter} and from calendar data loading.
+ * <p>
+ * Implement this to forward measurements to a metrics library; every method defaults to doing
+ * nothing, so only the interesting ones need overriding. {@link ConversionMetrics} is a ready-made
+ * in-memory implementation. Methods are called on the converting thread and must be thread-safe
+ * and cheap.
+ */
+public interface MetricsSink {
+
+    /**
+     * A sink that discards everything.
+     */
+    MetricsSink NONE = new MetricsSink() {
+    };
+
+    /**
+     * Called once for every single conversion, successful or not.
+     */
+    default void recordConversion(Operation operation) {
+    }
+
+    /**
+     * Called for every single conversion that failed, in addition to {@link #recordConversion}: both
+     * conversions that threw a {@link NepaliCalendarException} and {@code try*} conversions that
+     * reported the failure through their return value. {@code errorCode} is the code the throwing
+     * variant would have used.
+     */
+    default void recordFailure(Operation operation, NepaliCalendarException.ErrorCode errorCode) {
+    }
+
+    /**
+     * Called once per bulk call with the number of elements and how many of them failed.
+     */
+    default void recordBatch(Operation operation, int size, int failures) {
+    }
+
+    /**
+     * Called for a sample of calls with their duration in nanoseconds.
+     */
+    default void recordLatency(Operation operation, long nanos) {
+    }
+
+    /**
+     * Called after calendar data was loaded and validated.
+     *
+     * @param source A description of where the data came from.
+     * @param years  The number of B.S. years loaded.
+     * @param nanos  How long loading and validation took.
+     */
+    default void recordDataLoad(String source, int years, long nanos) {
+    }
+
+    /**
+     * Called after loading calendar data failed.
+     *
+     * @param source    A description of where the data came from.
+     * @param errorCode The error code of the exception thrown to the caller.
+     * @param nanos     How long the failed attempt took.
+     */
+    default void recordDataLoadFailure(String source, NepaliCalendarException.ErrorCode errorCode, long nanos) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.github.scoolfx.metrics;
+
+/**
+ * The converter operations that are counted and timed.
+ */
+public enum Operation {
+    /** {@code toBs(LocalDate)}, {@code toBs(Instant)}, {@code toBsFromEpochMilli} and {@code tryToBs} */
+    TO_BS,
+    /** {@code toBsPacked}, {@code toBsPackedFromEpochMilli} and {@code tryToBsPacked} */
+    TO_BS_PACKED,
+    /** {@code toAd(BsDate)} and {@code tryToAd} */
+    TO_AD,
+    /** {@code toAdEpochDay} and {@code tryToAdEpochDay} */
+    TO_AD_EPOCH_DAY,
+    /** The bulk and parallel A.D. to B.S. methods */
+    BATCH_TO_BS,
+    /** The bulk and parallel B.S. to A.D. methods */
+    BATCH_TO_AD
+}
@@ -0,0 +1,29 @@
+package com.github.scoolfx.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event for a conversion through {@link InstrumentedNepaliDateConverter} that took
+ * longer than the event threshold (1 ms unless overridden in the recording settings).
+ */
+@Name("com.github.scoolfx.SlowConversion")
+@Label("Slow Date Conversion")
+@Category({"Nepali Calendar SDK"})
+@Description("A date conversion that exceeded the threshold")
+@Threshold("1 ms")
+final class SlowConversionEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Elements")
+    int elements;
+
+    @Label("Failed")
+    boolean failed;
+}
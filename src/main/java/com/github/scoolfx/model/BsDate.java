@@ -1,7 +1,9 @@
 package com.github.scoolfx.model;
 
+import com.github.scoolfx.format.BsDateFormatter;
+
 public record BsDate(int year, BsMonth month, int day) {
     public String format() {
-        return String.format("%04d-%02d-%02d", year, month.getValue(), day);
+        return BsDateFormatter.ISO.format(this);
     }
-}
\ No newline at end of file
+}
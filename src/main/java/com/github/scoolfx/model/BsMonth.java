@@ -6,6 +6,8 @@ public enum BsMonth {
     KARTIK(7, "Kartik"), MANGSIR(8, "Mangsir"), POUSH(9, "Poush"),
     MAGH(10, "Magh"), FALGUN(11, "Falgun"), CHAITRA(12, "Chaitra");
 
+    private static final BsMonth[] VALUES = values();
+
     private final int value;
     private final String name;
 
@@ -24,6 +26,6 @@ public enum BsMonth {
 
     public static BsMonth fromValue(int value) {
         if (value < 1 || value > 12) throw new IllegalArgumentException("Month must be 1-12");
-        return values()[value - 1];
+        return VALUES[value - 1];
     }
 }
\ No newline at end of file
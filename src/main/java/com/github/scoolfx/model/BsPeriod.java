@@ -0,0 +1,110 @@
+package com.github.scoolfx.model;
+
+/**
+ * Reporting periods of the Bikram Sambat calendar, identified by {@code int} ids.
+ * <p>
+ * Nepal's fiscal year starts on Shrawan 1 and is named after the B.S. year it starts in, so
+ * fiscal year {@code 2081} (written {@code 2081/82}) runs from Shrawan 2081 to the end of Asar 2082.
+ * Its quarters are Shrawan-Aswin, Kartik-Poush, Magh-Chaitra and Baisakh-Asar.
+ * <p>
+ * Ids are consecutive within each period type and increase with time, so they can index arrays
+ * and be compared directly:
+ * <ul>
+ *     <li>{@link #MONTH} - {@code year * 12 + (month - 1)}</li>
+ *     <li>{@link #FISCAL_QUARTER} - {@code fiscalYear * 4 + (quarter - 1)}</li>
+ *     <li>{@link #FISCAL_YEAR} - {@code fiscalYear}</li>
+ * </ul>
+ */
+public enum BsPeriod {
+    MONTH(1),
+    FISCAL_QUARTER(3),
+    FISCAL_YEAR(12);
+
+    private final int months;
+
+    BsPeriod(int months) {
+        this.months = months;
+    }
+
+    /**
+     * Returns the number of months in one period.
+     */
+    public int getMonths() {
+        return months;
+    }
+
+    /**
+     * Returns the id of the period containing the given month (1-12).
+     */
+    public int idOf(int year, int month) {
+        if (this == MONTH) {
+            return year * 12 + month - 1;
+        }
+        // Months counted from the start of the fiscal year; Shrawan is month 4
+        int fiscalMonths = year * 12 + month - 4;
+        return Math.floorDiv(fiscalMonths, months);
+    }
+
+    /**
+     * Returns the id of the period containing the given date.
+     */
+    public int idOf(BsDate date) {
+        return idOf(date.year(), date.month().getValue());
+    }
+
+    /**
+     * Returns the id of the period containing the given packed date.
+     *
+     * @param packed A date encoded as described in {@link PackedBsDate}.
+     */
+    public int idOfPacked(int packed) {
+        return idOf(PackedBsDate.year(packed), PackedBsDate.month(packed));
+    }
+
+    /**
+     * Returns the B.S. year in which the given period starts.
+     */
+    public int startYear(int id) {
+        return Math.floorDiv(firstMonth(id), 12);
+    }
+
+    /**
+     * Returns the month in which the given period starts.
+     */
+    public BsMonth startMonth(int id) {
+        return BsMonth.fromValue(Math.floorMod(firstMonth(id), 12) + 1);
+    }
+
+    /**
+     * Returns the fiscal year containing the given month (1-12).
+     */
+    public static int fiscalYear(int year, int month) {
+        return month >= 4 ? year : year - 1;
+    }
+
+    /**
+     * Returns a readable name for the given period: {@code 2081-04}, {@code 2081/82 Q1} or {@code 2081/82}.
+     */
+    public String label(int id) {
+        StringBuilder label = new StringBuilder(12);
+        if (this == MONTH) {
+            int month = Math.floorMod(id, 12) + 1;
+            label.append(startYear(id)).append(month < 10 ? "-0" : "-").append(month);
+            return label.toString();
+        }
+        int fiscalYear = this == FISCAL_YEAR ? id : Math.floorDiv(id, 4);
+        int next = Math.floorMod(fiscalYear + 1, 100);
+        label.append(fiscalYear).append(next < 10 ? "/0" : "/").append(next);
+        if (this == FISCAL_QUARTER) {
+            label.append(" Q").append(Math.floorMod(id, 4) + 1);
+        }
+        return label.toString();
+    }
+
+    /**
+     * Returns {@code year * 12 + (month - 1)} for the first month of the period.
+     */
+    private int firstMonth(int id) {
+        return this == MONTH ? id : id * months + 3;
+    }
+}
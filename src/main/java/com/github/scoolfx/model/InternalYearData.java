@@ -1,7 +1,6 @@
 package com.github.scoolfx.model;
 
 import java.time.LocalDate;
-import java.util.Arrays;
 
 /**
  * Internal representation of a Nepali Year's configuration.
@@ -16,7 +15,10 @@ public record InternalYearData(
      * Calculates the AD end date of this Nepali year.
      */
     public LocalDate endDate() {
-        int totalDays = Arrays.stream(monthLengths).sum();
+        int totalDays = 0;
+        for (int length : monthLengths) {
+            totalDays += length;
+        }
         return startDate.plusDays(totalDays - 1);
     }
 
@@ -0,0 +1,52 @@
+package com.github.scoolfx.model;
+
+/**
+ * Helpers for B.S. dates encoded into a single {@code int}.
+ * <p>
+ * The encoding is {@code (year << 16) | (month << 8) | day}, so packed values
+ * sort in chronological order and {@code 0} never denotes a valid date. Packed
+ * dates let hot paths convert without allocating a {@link BsDate} per value.
+ */
+public final class PackedBsDate {
+
+    /**
+     * The value used for "no date", e.g. by {@code NepaliDateConverter.tryToBsPacked}; no valid date packs to it.
+     */
+    public static final int INVALID = 0;
+
+    private PackedBsDate() {
+    }
+
+    /**
+     * Packs the given year, month (1-12) and day into a single {@code int}.
+     */
+    public static int of(int year, int month, int day) {
+        return (year << 16) | (month << 8) | day;
+    }
+
+    /**
+     * Packs the given {@link BsDate} into a single {@code int}.
+     */
+    public static int of(BsDate date) {
+        return of(date.year(), date.month().getValue(), date.day());
+    }
+
+    public static int year(int packed) {
+        return packed >>> 16;
+    }
+
+    public static int month(int packed) {
+        return (packed >>> 8) & 0xFF;
+    }
+
+    public static int day(int packed) {
+        return packed & 0xFF;
+    }
+
+    /**
+     * Unpacks the given value into a new {@link BsDate}.
+     */
+    public static BsDate toBsDate(int packed) {
+        return new BsDate(year(packed), BsMonth.fromValue(month(packed)), day(packed));
+    }
+}
@@ -0,0 +1,151 @@
+package com.github.scoolfx.business;
+
+import com.github.scoolfx.converter.CalendarData;
+import com.github.scoolfx.converter.CalendarDataRegistry;
+import com.github.scoolfx.converter.NepaliDateConverter;
+import com.github.scoolfx.exception.NepaliCalendarException;
+import com.github.scoolfx.model.BsDate;
+import com.github.scoolfx.model.BsMonth;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BusinessCalendarTest {
+
+    private CalendarData data;
+    private NepaliDateConverter converter;
+    private long min;
+    private long max;
+
+    @BeforeEach
+    void setUp() {
+        data = CalendarDataRegistry.current();
+        converter = new NepaliDateConverter(data);
+        min = data.getMinSupportedAdDate().toEpochDay();
+        max = data.getMaxSupportedAdDate().toEpochDay();
+    }
+
+    @Test
+    @DisplayName("Holidays are read from JSON and Saturdays are days off")
+    void testJsonHolidays() {
+        byte[] json = """
+                [
+                  {"date": "2081-01-01", "name": "Nepali New Year"},
+                  {"date": "2081-06-27", "name": "Ghatasthapana"}
+                ]
+                """.getBytes(StandardCharsets.UTF_8);
+        BusinessCalendar calendar = BusinessCalendar.load(HolidaySource.bytes(json));
+
+        assertEquals(List.of(new Holiday(new BsDate(2081, BsMonth.BAISAKH, 1), "Nepali New Year"),
+                new Holiday(new BsDate(2081, BsMonth.ASWIN, 27), "Ghatasthapana")), calendar.getHolidays());
+        assertFalse(calendar.isWorkingDay(new BsDate(2081, BsMonth.BAISAKH, 1)));
+        assertTrue(calendar.isWorkingDay(new BsDate(2081, BsMonth.BAISAKH, 2)));
+        assertFalse(calendar.isWorkingDay(LocalDate.of(2024, 4, 20).toEpochDay())); // Saturday
+
+        // Chaitra 30, 2080 is a Friday; Baisakh 1, 2081 is a Saturday and a holiday
+        BsDate friday = new BsDate(2080, BsMonth.CHAITRA, 30);
+        assertEquals(new BsDate(2081, BsMonth.BAISAKH, 2), calendar.addWorkingDays(friday, 1));
+        assertEquals(friday, calendar.addWorkingDays(new BsDate(2081, BsMonth.BAISAKH, 2), -1));
+        assertEquals(1, calendar.workingDaysBetween(friday, new BsDate(2081, BsMonth.BAISAKH, 2)));
+        assertEquals(-1, calendar.workingDaysBetween(new BsDate(2081, BsMonth.BAISAKH, 2), friday));
+    }
+
+    @Test
+    @DisplayName("Bitset queries agree with a day-by-day walk")
+    void testAgainstWalk() {
+        Random random = new Random(7);
+        Set<Long> holidayDays = new HashSet<>();
+        List<Holiday> holidays = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            long epochDay = min + random.nextInt((int) (max - min + 1));
+            holidayDays.add(epochDay);
+            holidays.add(new Holiday(converter.toBs(LocalDate.ofEpochDay(epochDay)), "Holiday " + i));
+        }
+        Set<DayOfWeek> weekend = Set.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+        BusinessCalendar calendar = BusinessCalendar.of(data, weekend, holidays);
+
+        for (long day = min; day <= max; day++) {
+            long d = day;
+            boolean expected = !weekend.contains(LocalDate.ofEpochDay(day).getDayOfWeek()) && !holidayDays.contains(day);
+            assertEquals(expected, calendar.isWorkingDay(day), () -> LocalDate.ofEpochDay(d).toString());
+        }
+        for (int i = 0; i < 2000; i++) {
+            long start = min + random.nextInt((int) (max - min + 1));
+            long end = Math.min(max + 1, start + random.nextInt(400));
+            long walked = 0;
+            for (long day = start; day < end; day++) {
+                if (calendar.isWorkingDay(day)) {
+                    walked++;
+                }
+            }
+            assertEquals(walked, calendar.workingDaysBetween(start, end));
+            if (end <= max) {
+                assertEquals(-walked, calendar.workingDaysBetween(end, start));
+            }
+
+            int n = random.nextInt(101) - 50;
+            long expected = start;
+            for (int remaining = Math.abs(n); remaining > 0 && expected >= min && expected <= max; ) {
+                expected += Integer.signum(n);
+                if (expected >= min && expected <= max && calendar.isWorkingDay(expected)) {
+                    remaining--;
+                }
+            }
+            if (expected < min || expected > max) {
+                assertThrows(NepaliCalendarException.class, () -> calendar.addWorkingDays(start, n));
+            } else {
+                assertEquals(expected, calendar.addWorkingDays(start, n));
+            }
+        }
+
+        // Long jumps in both directions land on working days with the right count in between
+        long total = calendar.workingDaysBetween(min, max + 1);
+        for (int i = 0; i < 200; i++) {
+            long start = min + random.nextInt((int) (max - min + 1));
+            int n = random.nextInt((int) total) - (int) calendar.workingDaysBetween(min, start);
+            if (n == 0) {
+                continue;
+            }
+            long result = calendar.addWorkingDays(start, n);
+            assertTrue(calendar.isWorkingDay(result));
+            assertEquals(n, n > 0
+                    ? calendar.workingDaysBetween(start + 1, result + 1)
+                    : -calendar.workingDaysBetween(result, start));
+        }
+    }
+
+    @Test
+    @DisplayName("Invalid holidays and out-of-range days are rejected")
+    void testErrors() {
+        BusinessCalendar calendar = BusinessCalendar.of(data, BusinessCalendar.SATURDAY,
+                List.of(new Holiday(new BsDate(1900, BsMonth.BAISAKH, 1), "Unsupported year")));
+        assertEquals(1, calendar.getHolidays().size());
+        assertThrows(NepaliCalendarException.class, () -> calendar.isWorkingDay(min - 1));
+        assertThrows(NepaliCalendarException.class, () -> calendar.workingDaysBetween(min, max + 2));
+        assertThrows(NepaliCalendarException.class, () -> calendar.addWorkingDays(max, 1));
+        assertThrows(NepaliCalendarException.class, () -> calendar.addWorkingDays(min, -1));
+        assertEquals(max, calendar.addWorkingDays(max, 0));
+
+        NepaliCalendarException invalid = assertThrows(NepaliCalendarException.class,
+                () -> BusinessCalendar.of(data, BusinessCalendar.SATURDAY,
+                        List.of(new Holiday(new BsDate(2081, BsMonth.BAISAKH, 40), "No such day"))));
+        assertEquals(NepaliCalendarException.ErrorCode.DATA_LOAD_ERROR, invalid.getErrorCode());
+
+        NepaliCalendarException malformed = assertThrows(NepaliCalendarException.class,
+                () -> BusinessCalendar.load(HolidaySource.bytes("[{\"name\": \"No date\"}]".getBytes(StandardCharsets.UTF_8))));
+        assertEquals(NepaliCalendarException.ErrorCode.DATA_LOAD_ERROR, malformed.getErrorCode());
+        assertThrows(NepaliCalendarException.class,
+                () -> BusinessCalendar.load(HolidaySource.resource("/no-such-holidays.json")));
+    }
+}
@@ -0,0 +1,139 @@
+package com.github.scoolfx.chrono;
+
+import com.github.scoolfx.converter.NepaliDateConverter;
+import com.github.scoolfx.model.BsDate;
+import com.github.scoolfx.model.BsMonth;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.chrono.ChronoPeriod;
+import java.time.chrono.Chronology;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BsChronoLocalDateTest {
+
+    private final BikramSambatChronology chronology = BikramSambatChronology.INSTANCE;
+
+    @Nested
+    @DisplayName("Conversion to and from java.time")
+    class ConversionTests {
+
+        @Test
+        @DisplayName("from(LocalDate) agrees with NepaliDateConverter and converts back")
+        void testFromLocalDate() {
+            NepaliDateConverter converter = new NepaliDateConverter();
+            LocalDate ad = LocalDate.of(2015, 4, 25);
+            BsChronoLocalDate bs = BsChronoLocalDate.from(ad);
+
+            assertEquals(converter.toBs(ad), bs.toBsDate());
+            assertEquals(ad, LocalDate.from(bs));
+            assertEquals(ad.toEpochDay(), bs.toEpochDay());
+            assertEquals(bs, chronology.date(2072, 1, 12));
+            assertEquals(bs, BsChronoLocalDate.of(new BsDate(2072, BsMonth.BAISAKH, 12)));
+        }
+
+        @Test
+        @DisplayName("Field access reports year, month, day and weekday")
+        void testFields() {
+            BsChronoLocalDate date = chronology.date(2081, 1, 1);
+
+            assertEquals(2081, date.get(ChronoField.YEAR));
+            assertEquals(1, date.get(ChronoField.MONTH_OF_YEAR));
+            assertEquals(1, date.get(ChronoField.DAY_OF_YEAR));
+            assertEquals(DayOfWeek.SATURDAY.getValue(), date.get(ChronoField.DAY_OF_WEEK));
+            assertEquals(31, date.lengthOfMonth());
+            assertEquals(BsEra.BS, date.getEra());
+            assertEquals("BikramSambat BS 2081-01-01", date.toString());
+        }
+
+        @Test
+        @DisplayName("Dates outside the data range fail with DateTimeException")
+        void testOutOfRange() {
+            assertThrows(DateTimeException.class, () -> BsChronoLocalDate.from(LocalDate.of(1900, 1, 1)));
+            assertThrows(DateTimeException.class, () -> chronology.date(2081, 1, 32));
+            assertThrows(DateTimeException.class, () -> chronology.date(2085, 12, 31).plusDays(1));
+        }
+
+        @Test
+        @DisplayName("Chronology.of finds the chronology through ServiceLoader")
+        void testServiceRegistration() {
+            Chronology found = Chronology.of("BikramSambat");
+
+            assertEquals(chronology, found);
+            assertEquals(chronology.date(2081, 1, 1), found.date(LocalDate.of(2024, 4, 13)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Arithmetic")
+    class ArithmeticTests {
+
+        @Test
+        @DisplayName("plusMonths clamps to the last day of a shorter month")
+        void testPlusMonthsClamps() {
+            assertEquals(chronology.date(2081, 3, 31), chronology.date(2081, 2, 32).plusMonths(1));
+            assertEquals(chronology.date(2082, 1, 31), chronology.date(2081, 12, 31).plus(1, ChronoUnit.MONTHS));
+            assertEquals(chronology.date(2080, 12, 30), chronology.date(2081, 12, 31).minus(1, ChronoUnit.YEARS));
+        }
+
+        @Test
+        @DisplayName("until counts days, months and periods")
+        void testUntil() {
+            BsChronoLocalDate start = chronology.date(2081, 1, 15);
+            BsChronoLocalDate end = chronology.date(2082, 3, 10);
+
+            assertEquals(LocalDate.from(start).until(LocalDate.from(end), ChronoUnit.DAYS),
+                    start.until(end, ChronoUnit.DAYS));
+            assertEquals(13, start.until(end, ChronoUnit.MONTHS));
+            assertEquals(1, start.until(end, ChronoUnit.YEARS));
+
+            ChronoPeriod period = start.until(end);
+            assertEquals(chronology.period(1, 1, 26), period);
+            assertEquals(end, start.plus(period));
+            assertEquals(-13, end.until(start, ChronoUnit.MONTHS));
+        }
+
+        @Test
+        @DisplayName("TemporalAdjusters work in BS terms")
+        void testAdjusters() {
+            BsChronoLocalDate date = chronology.date(2081, 9, 10);
+
+            assertEquals(chronology.date(2081, 9, 29), date.with(TemporalAdjusters.lastDayOfMonth()));
+            assertEquals(chronology.date(2081, 1, 1), date.with(TemporalAdjusters.firstDayOfYear()));
+            BsChronoLocalDate saturday = (BsChronoLocalDate) date.with(TemporalAdjusters.next(DayOfWeek.SATURDAY));
+            assertEquals(DayOfWeek.SATURDAY, LocalDate.from(saturday).getDayOfWeek());
+            assertTrue(saturday.isAfter(date));
+        }
+
+        @Test
+        @DisplayName("Comparisons follow the epoch day")
+        void testComparisons() {
+            BsChronoLocalDate earlier = chronology.date(2081, 1, 1);
+            BsChronoLocalDate later = chronology.dateYearDay(2081, 2);
+
+            assertTrue(earlier.isBefore(later));
+            assertTrue(earlier.compareTo(later) < 0);
+            assertEquals(chronology.date(2081, 1, 2), later);
+        }
+    }
+
+    @Test
+    @DisplayName("Chronology reports eras, leap years and ranges from the calendar data")
+    void testChronology() {
+        assertEquals("BikramSambat", chronology.getId());
+        assertEquals(BsEra.BS, chronology.eraOf(1));
+        assertEquals(chronology.date(2081, 1, 1), chronology.date(BsEra.BS, 2081, 1, 1));
+        assertEquals(2000, chronology.range(ChronoField.YEAR).getMinimum());
+        assertEquals(2085, chronology.range(ChronoField.YEAR).getMaximum());
+        assertEquals(chronology.date(2081, 1, 1).lengthOfYear() == 366, chronology.isLeapYear(2081));
+        assertFalse(chronology.isLeapYear(1900));
+    }
+}
@@ -0,0 +1,103 @@
+package com.github.scoolfx.converter;
+
+import com.github.scoolfx.exception.NepaliCalendarException;
+import com.github.scoolfx.model.BsDate;
+import com.github.scoolfx.model.BsMonth;
+import com.github.scoolfx.model.PackedBsDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.LocalDate;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BsDateCalculatorTest {
+
+    private NepaliDateConverter converter;
+    private BsDateCalculator calculator;
+
+    @BeforeEach
+    void setUp() {
+        converter = new NepaliDateConverter();
+        calculator = new BsDateCalculator();
+    }
+
+    private static BsDate bs(int year, int month, int day) {
+        return new BsDate(year, BsMonth.fromValue(month), day);
+    }
+
+    @Test
+    @DisplayName("plusDays and daysBetween agree with the LocalDate round trip")
+    void testPlusDaysMatchesLocalDate() {
+        Random random = new Random(42);
+        long min = converter.getMinSupportedAdDate().toEpochDay();
+        long max = converter.getMaxSupportedAdDate().toEpochDay();
+        for (int i = 0; i < 10_000; i++) {
+            long from = min + random.nextInt((int) (max - min + 1));
+            long to = min + random.nextInt((int) (max - min + 1));
+            BsDate start = converter.toBs(LocalDate.ofEpochDay(from));
+            BsDate expected = converter.toBs(LocalDate.ofEpochDay(to));
+
+            assertSame(expected, calculator.plusDays(start, to - from));
+            assertEquals(to - from, calculator.daysBetween(start, expected));
+            assertEquals(PackedBsDate.of(expected), calculator.plusDaysPacked(PackedBsDate.of(start), to - from));
+        }
+    }
+
+    @ParameterizedTest(name = "{0}-{1}-{2} plus {3} months = {4}-{5}-{6}")
+    @CsvSource({
+            "2081, 2, 32, 1, 2081, 3, 31",
+            "2081, 12, 31, 1, 2082, 1, 31",
+            "2081, 1, 15, -1, 2080, 12, 15",
+            "2081, 5, 31, 24, 2083, 5, 31",
+            "2082, 3, 32, -12, 2081, 3, 31"
+    })
+    void testPlusMonthsClamps(int year, int month, int day, int months, int eYear, int eMonth, int eDay) {
+        assertEquals(bs(eYear, eMonth, eDay), calculator.plusMonths(bs(year, month, day), months));
+        assertEquals(PackedBsDate.of(eYear, eMonth, eDay),
+                calculator.plusMonthsPacked(PackedBsDate.of(year, month, day), months));
+    }
+
+    @Test
+    @DisplayName("plusYears clamps and monthsBetween counts complete months")
+    void testYearsAndMonthsBetween() {
+        assertEquals(bs(2080, 12, 30), calculator.plusYears(bs(2081, 12, 31), -1));
+        assertEquals(13, calculator.monthsBetween(bs(2081, 1, 15), bs(2082, 3, 10)));
+        assertEquals(12, calculator.monthsBetween(bs(2081, 1, 15), bs(2082, 1, 15)));
+        assertEquals(-11, calculator.monthsBetween(bs(2082, 1, 15), bs(2081, 1, 16)));
+    }
+
+    @Test
+    @DisplayName("monthsBetween stays within one month of the months added, allowing for clamping")
+    void testMonthsBetweenIsConsistentWithPlusMonths() {
+        BsDate start = bs(2070, 6, 20);
+        for (int months = -100; months <= 100; months += 7) {
+            BsDate end = calculator.plusMonths(start, months);
+            long counted = calculator.monthsBetween(start, end);
+            assertTrue(Math.abs(counted - months) <= 1, "Unexpected month count for " + months);
+        }
+    }
+
+    @Test
+    @DisplayName("First and last day of month use the month length table")
+    void testMonthBoundaries() {
+        assertSame(converter.toBs(converter.toAd(bs(2081, 9, 1))), calculator.firstDayOfMonth(bs(2081, 9, 17)));
+        assertEquals(bs(2081, 9, 29), calculator.lastDayOfMonth(bs(2081, 9, 17)));
+        assertEquals(bs(2085, 12, 31), calculator.lastDayOfMonth(bs(2085, 12, 1)));
+    }
+
+    @Test
+    @DisplayName("Results outside the supported range and invalid inputs throw")
+    void testErrors() {
+        assertEquals(NepaliCalendarException.ErrorCode.OUT_OF_RANGE, assertThrows(NepaliCalendarException.class,
+                () -> calculator.plusDays(bs(2085, 12, 31), 1)).getErrorCode());
+        assertEquals(NepaliCalendarException.ErrorCode.OUT_OF_RANGE, assertThrows(NepaliCalendarException.class,
+                () -> calculator.plusMonths(bs(2000, 1, 1), -1)).getErrorCode());
+        assertEquals(NepaliCalendarException.ErrorCode.INVALID_BS_DATE, assertThrows(NepaliCalendarException.class,
+                () -> calculator.plusDays(bs(2081, 1, 32), 1)).getErrorCode());
+    }
+}
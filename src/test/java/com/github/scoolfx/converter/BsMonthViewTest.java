@@ -0,0 +1,87 @@
+package com.github.scoolfx.converter;
+
+import com.github.scoolfx.exception.NepaliCalendarException;
+import com.github.scoolfx.model.BsDate;
+import com.github.scoolfx.model.BsMonth;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BsMonthViewTest {
+
+    private NepaliDateConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        converter = new NepaliDateConverter();
+    }
+
+    @Test
+    @DisplayName("Baisakh 2081 starts on a Saturday and spans six weeks")
+    void testKnownMonth() {
+        BsMonthView view = converter.monthView(2081, BsMonth.BAISAKH);
+
+        assertEquals(2081, view.getYear());
+        assertEquals(BsMonth.BAISAKH, view.getMonth());
+        assertEquals(31, view.getLength());
+        assertEquals(DayOfWeek.SATURDAY, view.getFirstDayOfWeek());
+        assertEquals(6, view.getWeekdayOffset());
+        assertEquals(6, view.getWeekCount());
+        assertEquals(0, view.dayAt(0, 5));
+        assertEquals(1, view.dayAt(0, 6));
+        assertEquals(2, view.dayAt(1, 0));
+        assertEquals(30, view.dayAt(5, 0));
+        assertEquals(31, view.dayAt(5, 1));
+        assertEquals(0, view.dayAt(5, 2));
+        assertEquals(LocalDate.of(2024, 4, 13), view.getAdDate(1));
+        assertEquals(new BsDate(2081, BsMonth.BAISAKH, 31), view.getBsDate(31));
+        assertEquals("BsMonthView[2081 Baisakh, 31 days from 2024-04-13, starting SATURDAY]", view.toString());
+    }
+
+    @Test
+    @DisplayName("Every supported month agrees with per-day conversion and is cached")
+    void testAllMonths() {
+        CalendarData data = converter.getCalendarData();
+        for (int year = data.getMinYear(); year <= data.getMaxYear(); year++) {
+            for (BsMonth month : BsMonth.values()) {
+                BsMonthView view = converter.monthView(year, month);
+                assertSame(view, converter.monthView(year, month));
+                assertEquals(data.getMonthLength(year, month.getValue()), view.getLength());
+
+                int seen = 0;
+                for (int week = 0; week < view.getWeekCount(); week++) {
+                    for (int column = 0; column < BsMonthView.DAYS_PER_WEEK; column++) {
+                        int day = view.dayAt(week, column);
+                        if (day == 0) {
+                            continue;
+                        }
+                        seen++;
+                        LocalDate adDate = view.getAdDate(day);
+                        assertEquals(converter.toAd(new BsDate(year, month, day)), adDate);
+                        assertSame(converter.toBs(adDate), view.getBsDate(day));
+                        assertEquals(BsMonthView.WEEK_START.plus(column), adDate.getDayOfWeek());
+                    }
+                }
+                assertEquals(view.getLength(), seen);
+                assertEquals(view.getAdDate(1).toEpochDay(), view.getFirstEpochDay());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Unsupported years, missing days and cells outside the grid are rejected")
+    void testErrors() {
+        assertThrows(NepaliCalendarException.class, () -> converter.monthView(1999, BsMonth.BAISAKH));
+        BsMonthView view = converter.monthView(2081, BsMonth.CHAITRA);
+        NepaliCalendarException e = assertThrows(NepaliCalendarException.class, () -> view.getAdDate(view.getLength() + 1));
+        assertEquals(NepaliCalendarException.ErrorCode.INVALID_BS_DATE, e.getErrorCode());
+        assertThrows(NepaliCalendarException.class, () -> view.getBsDate(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> view.dayAt(view.getWeekCount(), 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> view.dayAt(0, 7));
+    }
+}
@@ -0,0 +1,158 @@
+package com.github.scoolfx.converter;
+
+import com.github.scoolfx.exception.NepaliCalendarException;
+import com.github.scoolfx.model.BsDate;
+import com.github.scoolfx.model.BsMonth;
+import com.github.scoolfx.model.BsPeriod;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BsPeriodCalendarTest {
+
+    private NepaliDateConverter converter;
+    private BsPeriodCalendar calendar;
+
+    @BeforeEach
+    void setUp() {
+        converter = new NepaliDateConverter();
+        calendar = new BsPeriodCalendar();
+    }
+
+    @ParameterizedTest(name = "{0}-{1} is in {2}, {3}")
+    @CsvSource({
+            "2081, 4,  2081/82 Q1, 2081/82",
+            "2081, 6,  2081/82 Q1, 2081/82",
+            "2081, 7,  2081/82 Q2, 2081/82",
+            "2081, 12, 2081/82 Q3, 2081/82",
+            "2082, 1,  2081/82 Q4, 2081/82",
+            "2082, 3,  2081/82 Q4, 2081/82",
+            "2000, 1,  1999/00 Q4, 1999/00"
+    })
+    void testFiscalPeriods(int year, int month, String quarter, String fiscalYear) {
+        assertEquals(quarter, BsPeriod.FISCAL_QUARTER.label(BsPeriod.FISCAL_QUARTER.idOf(year, month)));
+        assertEquals(fiscalYear, BsPeriod.FISCAL_YEAR.label(BsPeriod.FISCAL_YEAR.idOf(year, month)));
+        assertEquals(BsPeriod.fiscalYear(year, month), BsPeriod.FISCAL_YEAR.idOf(year, month));
+        assertEquals(String.format("%d-%02d", year, month), BsPeriod.MONTH.label(BsPeriod.MONTH.idOf(year, month)));
+    }
+
+    @Test
+    @DisplayName("Period ids map back to their first month and days to the containing period")
+    void testIds() {
+        int quarter = BsPeriod.FISCAL_QUARTER.idOf(2082, 2);
+        assertEquals(2082, BsPeriod.FISCAL_QUARTER.startYear(quarter));
+        assertEquals(BsMonth.BAISAKH, BsPeriod.FISCAL_QUARTER.startMonth(quarter));
+        assertEquals(BsMonth.SHRAWAN, BsPeriod.FISCAL_YEAR.startMonth(2081));
+        assertEquals(2081, BsPeriod.FISCAL_YEAR.startYear(2081));
+
+        long epochDay = LocalDate.of(2024, 7, 16).toEpochDay(); // Shrawan 1, 2081
+        assertEquals(2081, calendar.periodId(BsPeriod.FISCAL_YEAR, epochDay));
+        assertEquals(2080, calendar.periodId(BsPeriod.FISCAL_YEAR, epochDay - 1));
+        assertEquals(2081 * 12 + 3, calendar.periodId(BsPeriod.MONTH, new BsDate(2081, BsMonth.SHRAWAN, 1)));
+        assertThrows(NepaliCalendarException.class,
+                () -> calendar.periodId(BsPeriod.MONTH, LocalDate.of(1900, 1, 1).toEpochDay()));
+        assertThrows(NepaliCalendarException.class,
+                () -> calendar.periodId(BsPeriod.MONTH, new BsDate(2081, BsMonth.SHRAWAN, 33)));
+    }
+
+    @Test
+    @DisplayName("Period boundaries match the converter and are clipped to the supported range")
+    void testBoundaries() {
+        assertEquals(LocalDate.of(2024, 7, 16).toEpochDay(), calendar.periodStart(BsPeriod.FISCAL_YEAR, 2081));
+        assertEquals(LocalDate.of(2025, 7, 16).toEpochDay(), calendar.periodEnd(BsPeriod.FISCAL_YEAR, 2081));
+        for (int id = calendar.firstPeriodId(BsPeriod.FISCAL_QUARTER);
+             id < calendar.lastPeriodId(BsPeriod.FISCAL_QUARTER); id++) {
+            assertEquals(calendar.periodEnd(BsPeriod.FISCAL_QUARTER, id) + 1,
+                    calendar.periodStart(BsPeriod.FISCAL_QUARTER, id + 1));
+        }
+
+        int first = calendar.firstPeriodId(BsPeriod.FISCAL_YEAR);
+        int last = calendar.lastPeriodId(BsPeriod.FISCAL_YEAR);
+        assertEquals(1999, first);
+        assertEquals(2085, last);
+        assertEquals(converter.getMinSupportedAdDate().toEpochDay(), calendar.periodStart(BsPeriod.FISCAL_YEAR, first));
+        assertEquals(converter.getMaxSupportedAdDate().toEpochDay(), calendar.periodEnd(BsPeriod.FISCAL_YEAR, last));
+        assertThrows(NepaliCalendarException.class, () -> calendar.periodStart(BsPeriod.FISCAL_YEAR, 1998));
+        assertThrows(NepaliCalendarException.class, () -> calendar.periodEnd(BsPeriod.MONTH, 2086 * 12));
+    }
+
+    @Test
+    @DisplayName("Sequential, parallel and stream aggregation agree with per-record conversion")
+    void testAggregation() {
+        long min = converter.getMinSupportedAdDate().toEpochDay();
+        long max = converter.getMaxSupportedAdDate().toEpochDay();
+        Random random = new Random(42);
+        long[] epochDays = new long[300_000];
+        long[] values = new long[epochDays.length];
+        for (int i = 0; i < epochDays.length; i++) {
+            epochDays[i] = min - 10 + random.nextInt((int) (max - min + 21));
+            values[i] = random.nextInt(1000);
+        }
+
+        for (BsPeriod period : BsPeriod.values()) {
+            int first = calendar.firstPeriodId(period);
+            long[] counts = new long[calendar.lastPeriodId(period) - first + 1];
+            long[] sums = new long[counts.length];
+            long unsupported = 0;
+            for (int i = 0; i < epochDays.length; i++) {
+                if (epochDays[i] < min || epochDays[i] > max) {
+                    unsupported++;
+                    continue;
+                }
+                int id = period.idOf(converter.toBs(LocalDate.ofEpochDay(epochDays[i])));
+                counts[id - first]++;
+                sums[id - first] += values[i];
+            }
+
+            PeriodTotals sequential = calendar.aggregate(period, epochDays, values);
+            PeriodTotals parallel = calendar.aggregateParallel(period, epochDays, values);
+            PeriodTotals stream = calendar.aggregate(period, LongStream.of(epochDays).parallel());
+            for (PeriodTotals totals : new PeriodTotals[]{sequential, parallel, stream}) {
+                assertEquals(first, totals.getFirstId());
+                assertEquals(unsupported, totals.getUnsupportedCount());
+                assertEquals(epochDays.length - unsupported, totals.getTotalCount());
+                for (int i = 0; i < counts.length; i++) {
+                    assertEquals(counts[i], totals.getCount(first + i));
+                }
+            }
+            for (int i = 0; i < sums.length; i++) {
+                assertEquals(sums[i], sequential.getSum(first + i));
+                assertEquals(sums[i], parallel.getSum(first + i));
+                assertEquals(0, stream.getSum(first + i));
+            }
+        }
+    }
+
+    record Sale(LocalDate date, long amount) {
+    }
+
+    @Test
+    @DisplayName("The collector sums record values and forEach reports non-empty periods")
+    void testCollector() {
+        PeriodTotals totals = Arrays.stream(new Sale[]{
+                new Sale(LocalDate.of(2024, 7, 15), 100), // Asar 31, 2081
+                new Sale(LocalDate.of(2024, 7, 16), 250), // Shrawan 1, 2081
+                new Sale(LocalDate.of(2024, 7, 17), 50),
+                new Sale(LocalDate.of(1900, 1, 1), 1)
+        }).collect(calendar.toPeriodTotals(BsPeriod.FISCAL_YEAR, s -> s.date().toEpochDay(), Sale::amount));
+
+        assertEquals(1, totals.getCount(2080));
+        assertEquals(100, totals.getSum(2080));
+        assertEquals(2, totals.getCount(2081));
+        assertEquals(300, totals.getSum(2081));
+        assertEquals(0, totals.getCount(1500));
+        assertEquals(1, totals.getUnsupportedCount());
+        assertEquals("PeriodTotals[FISCAL_YEAR, 2080/81=1/100, 2081/82=2/300, unsupported=1]", totals.toString());
+        assertThrows(IllegalArgumentException.class,
+                () -> calendar.aggregate(BsPeriod.MONTH, new long[2], new long[1]));
+    }
+}
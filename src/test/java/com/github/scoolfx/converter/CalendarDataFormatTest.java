@@ -0,0 +1,76 @@
+package com.github.scoolfx.converter;
+
+import com.github.scoolfx.exception.NepaliCalendarException;
+import com.github.scoolfx.model.InternalYearData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CalendarDataFormatTest {
+
+    private static InternalYearData[] readJson() throws IOException {
+        try (InputStream in = CalendarDataFormatTest.class.getResourceAsStream(JsonCalendarData.RESOURCE)) {
+            return JsonCalendarData.read(in);
+        }
+    }
+
+    @Test
+    @DisplayName("Binary encoding round-trips the JSON data exactly")
+    void testRoundTrip() throws IOException {
+        InternalYearData[] json = readJson();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CalendarDataFormat.write(json, out);
+
+        InternalYearData[] binary = CalendarDataFormat.read(new ByteArrayInputStream(out.toByteArray()));
+
+        assertEquals(json.length, binary.length);
+        for (int i = 0; i < json.length; i++) {
+            assertEquals(json[i].year(), binary[i].year());
+            assertEquals(json[i].startDate(), binary[i].startDate());
+            assertArrayEquals(json[i].monthLengths(), binary[i].monthLengths());
+        }
+    }
+
+    @Test
+    @DisplayName("Bundled binary resource matches the JSON source")
+    void testBundledResourceMatchesJson() throws IOException {
+        InternalYearData[] json = readJson();
+        InternalYearData[] binary;
+        try (InputStream in = getClass().getResourceAsStream(CalendarDataFormat.RESOURCE)) {
+            assertNotNull(in, "Binary calendar data should be compiled during the build");
+            binary = CalendarDataFormat.read(in);
+        }
+        assertEquals(json.length, binary.length);
+        assertEquals(json[json.length - 1].endDate(), binary[binary.length - 1].endDate());
+    }
+
+    @Test
+    @DisplayName("Validation rejects gaps between years and impossible month lengths")
+    void testValidation() {
+        int[] lengths = {30, 32, 31, 32, 31, 30, 30, 30, 29, 30, 29, 31};
+        InternalYearData first = new InternalYearData(2000, LocalDate.of(1943, 4, 14), lengths);
+        InternalYearData gap = new InternalYearData(2001, first.endDate().plusDays(2), lengths);
+        InternalYearData badLength = new InternalYearData(2000, LocalDate.of(1943, 4, 14),
+                new int[]{30, 33, 31, 32, 31, 30, 30, 30, 29, 30, 29, 31});
+
+        NepaliCalendarException ex = assertThrows(NepaliCalendarException.class,
+                () -> CalendarDataFormat.validate(new InternalYearData[]{first, gap}));
+        assertEquals(NepaliCalendarException.ErrorCode.DATA_LOAD_ERROR, ex.getErrorCode());
+        assertThrows(NepaliCalendarException.class,
+                () -> CalendarDataFormat.validate(new InternalYearData[]{badLength}));
+    }
+
+    @Test
+    @DisplayName("Reading rejects data without the expected header")
+    void testBadMagic() {
+        assertThrows(IOException.class,
+                () -> CalendarDataFormat.read(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5})));
+    }
+}
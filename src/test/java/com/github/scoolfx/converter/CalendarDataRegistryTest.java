@@ -0,0 +1,128 @@
+package com.github.scoolfx.converter;
+
+import com.github.scoolfx.exception.NepaliCalendarException;
+import com.github.scoolfx.model.BsDate;
+import com.github.scoolfx.model.BsMonth;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CalendarDataRegistryTest {
+
+    private CalendarData original;
+
+    @BeforeEach
+    void setUp() {
+        original = CalendarDataRegistry.current();
+    }
+
+    @AfterEach
+    void tearDown() {
+        CalendarDataRegistry.swap(original);
+    }
+
+    private static byte[] resource(String name) throws IOException {
+        try (InputStream in = CalendarDataRegistryTest.class.getResourceAsStream(name)) {
+            return in.readAllBytes();
+        }
+    }
+
+    /**
+     * Builds a snapshot that only covers B.S. 2000 by cutting the JSON array after its first entry.
+     */
+    private static CalendarData firstYearOnly() throws IOException {
+        String json = new String(resource(JsonCalendarData.RESOURCE));
+        String firstEntry = json.substring(json.indexOf('{'), json.indexOf('}') + 1);
+        return CalendarData.load(CalendarDataSource.bytes(("[" + firstEntry + "]").getBytes()));
+    }
+
+    @Test
+    @DisplayName("Converters created with the default constructor share one snapshot")
+    void testSharedSnapshot() {
+        assertSame(new NepaliDateConverter().getCalendarData(), new NepaliDateConverter().getCalendarData());
+    }
+
+    @Test
+    @DisplayName("Byte and file sources accept both the JSON and the binary format")
+    void testSources(@TempDir Path dir) throws IOException {
+        Path json = dir.resolve("data.json");
+        Files.write(json, resource(JsonCalendarData.RESOURCE));
+
+        CalendarData fromFile = CalendarData.load(CalendarDataSource.file(json));
+        CalendarData fromBinary = CalendarData.load(CalendarDataSource.bytes(resource(CalendarDataFormat.RESOURCE)));
+
+        assertEquals(2000, fromFile.getMinYear());
+        assertEquals(2085, fromBinary.getMaxYear());
+        assertEquals(fromFile.getMaxSupportedAdDate(), fromBinary.getMaxSupportedAdDate());
+        assertEquals(31, fromBinary.getMonthLength(2081, 1));
+    }
+
+    @Test
+    @DisplayName("Unreadable or invalid data is reported as DATA_LOAD_ERROR and leaves the registry untouched")
+    void testReloadFailure(@TempDir Path dir) {
+        NepaliCalendarException ex = assertThrows(NepaliCalendarException.class,
+                () -> CalendarDataRegistry.reload(CalendarDataSource.file(dir.resolve("missing.json"))));
+        assertEquals(NepaliCalendarException.ErrorCode.DATA_LOAD_ERROR, ex.getErrorCode());
+        assertThrows(NepaliCalendarException.class,
+                () -> CalendarData.load(CalendarDataSource.bytes("[]".getBytes())));
+        assertSame(original, CalendarDataRegistry.current());
+    }
+
+    @Test
+    @DisplayName("Swapping the registry updates following converters but not pinned ones")
+    void testSwap() throws IOException {
+        NepaliDateConverter following = new NepaliDateConverter();
+        NepaliDateConverter pinned = new NepaliDateConverter(original);
+        LocalDate newYear2081 = LocalDate.of(2024, 4, 13);
+
+        assertSame(original, CalendarDataRegistry.swap(firstYearOnly()));
+
+        assertThrows(NepaliCalendarException.class, () -> following.toBs(newYear2081));
+        assertEquals(new BsDate(2081, BsMonth.BAISAKH, 1), pinned.toBs(newYear2081));
+        assertEquals(LocalDate.of(1944, 4, 12), following.getMaxSupportedAdDate());
+
+        CalendarDataRegistry.swap(original);
+        assertEquals(new BsDate(2081, BsMonth.BAISAKH, 1), following.toBs(newYear2081));
+    }
+
+    @Test
+    @DisplayName("Concurrent readers keep converting while snapshots are swapped")
+    void testConcurrentSwap() throws Exception {
+        CalendarData small = firstYearOnly();
+        NepaliDateConverter converter = new NepaliDateConverter();
+        LocalDate day = LocalDate.of(1943, 12, 31);
+        BsDate expected = converter.toBs(day);
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        Thread reader = new Thread(() -> {
+            try {
+                while (running.get()) {
+                    assertEquals(expected, converter.toBs(day));
+                }
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        });
+        reader.start();
+        for (int i = 0; i < 1_000; i++) {
+            CalendarDataRegistry.swap(i % 2 == 0 ? small : original);
+        }
+        running.set(false);
+        reader.join();
+
+        assertNull(failure.get());
+    }
+}
@@ -0,0 +1,113 @@
+package com.github.scoolfx.converter;
+
+import com.github.scoolfx.exception.NepaliCalendarException;
+import com.github.scoolfx.model.BsDate;
+import com.github.scoolfx.model.BsMonth;
+import com.github.scoolfx.model.PackedBsDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DateRangeSpliteratorTest {
+
+    private NepaliDateConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        converter = new NepaliDateConverter();
+    }
+
+    @Test
+    @DisplayName("Packed stream over the full range matches per-day conversion")
+    void testFullRangeMatchesToBs() {
+        LocalDate min = converter.getMinSupportedAdDate();
+        LocalDate max = converter.getMaxSupportedAdDate();
+        int[] packed = converter.packedDatesBetween(min, max).toArray();
+
+        assertEquals(max.toEpochDay() - min.toEpochDay() + 1, packed.length);
+        for (int i = 0; i < packed.length; i++) {
+            assertEquals(PackedBsDate.of(converter.toBs(min.plusDays(i))), packed[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("Parallel streams produce the same ordered result as sequential ones")
+    void testParallelMatchesSequential() {
+        BsDate start = new BsDate(2000, BsMonth.BAISAKH, 1);
+        BsDate end = new BsDate(2085, BsMonth.CHAITRA, 31);
+
+        assertArrayEquals(converter.packedDatesBetween(start, end).toArray(),
+                converter.packedDatesBetween(start, end).parallel().toArray());
+        List<BsDate> sequential = converter.datesBetween(start, end).toList();
+        assertEquals(sequential, converter.datesBetween(start, end).parallel().toList());
+        assertEquals(sequential.size(), converter.datesBetween(start, end).parallel().count());
+    }
+
+    @Test
+    @DisplayName("Splits are exact halves and keep the reported sizes")
+    void testEvenSplits() {
+        Spliterator.OfInt spliterator = converter.packedDatesBetween(
+                new BsDate(2081, BsMonth.BAISAKH, 1), new BsDate(2081, BsMonth.CHAITRA, 31)).spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+        long total = spliterator.getExactSizeIfKnown();
+
+        Spliterator.OfInt prefix = spliterator.trySplit();
+
+        assertNotNull(prefix);
+        assertEquals(total / 2, prefix.getExactSizeIfKnown());
+        assertEquals(total - total / 2, spliterator.getExactSizeIfKnown());
+        int[] last = new int[1];
+        prefix.forEachRemaining((int value) -> last[0] = value);
+        int[] first = new int[1];
+        spliterator.tryAdvance((int value) -> first[0] = value);
+        assertEquals(converter.toBsPacked(converter.toAdEpochDay(PackedBsDate.year(last[0]),
+                PackedBsDate.month(last[0]), PackedBsDate.day(last[0])) + 1), first[0]);
+    }
+
+    @Test
+    @DisplayName("Iterator and object stream return shared instances across month boundaries")
+    void testIteratorAcrossMonths() {
+        Iterator<BsDate> iterator = converter.iterator(
+                new BsDate(2081, BsMonth.CHAITRA, 30), new BsDate(2082, BsMonth.BAISAKH, 2));
+
+        assertSame(converter.toBs(LocalDate.of(2025, 4, 12)), iterator.next());
+        assertEquals(new BsDate(2081, BsMonth.CHAITRA, 31), iterator.next());
+        assertEquals(new BsDate(2082, BsMonth.BAISAKH, 1), iterator.next());
+        assertEquals(new BsDate(2082, BsMonth.BAISAKH, 2), iterator.next());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    @DisplayName("The A.D. range iterator matches the B.S. range iterator")
+    void testIteratorOverAdRange() {
+        Iterator<BsDate> ad = converter.iterator(LocalDate.of(2025, 4, 12), LocalDate.of(2025, 4, 15));
+        Iterator<BsDate> bs = converter.iterator(
+                new BsDate(2081, BsMonth.CHAITRA, 30), new BsDate(2082, BsMonth.BAISAKH, 2));
+
+        while (bs.hasNext()) {
+            assertSame(bs.next(), ad.next());
+        }
+        assertFalse(ad.hasNext());
+        assertThrows(IllegalArgumentException.class,
+                () -> converter.iterator(LocalDate.of(2025, 4, 15), LocalDate.of(2025, 4, 12)));
+    }
+
+    @Test
+    @DisplayName("Invalid ranges are rejected")
+    void testInvalidRanges() {
+        BsDate later = new BsDate(2081, BsMonth.BAISAKH, 2);
+        BsDate earlier = new BsDate(2081, BsMonth.BAISAKH, 1);
+
+        assertEquals(1, converter.datesBetween(earlier, earlier).count());
+        assertThrows(IllegalArgumentException.class, () -> converter.datesBetween(later, earlier));
+        assertThrows(NepaliCalendarException.class,
+                () -> converter.packedDatesBetween(LocalDate.of(1900, 1, 1), LocalDate.of(2000, 1, 1)));
+    }
+}
@@ -3,6 +3,7 @@ package com.github.scoolfx.converter;
 import com.github.scoolfx.exception.NepaliCalendarException;
 import com.github.scoolfx.model.BsDate;
 import com.github.scoolfx.model.BsMonth;
+import com.github.scoolfx.model.PackedBsDate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -10,7 +11,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -265,6 +269,155 @@ class NepaliDateConverterTest {
         }
     }
 
+    @Nested
+    @DisplayName("Full Range Consistency")
+    class FullRangeTests {
+
+        @Test
+        @DisplayName("Every supported AD day maps to the next BS day and back")
+        void testEveryDayRoundTrips() {
+            LocalDate ad = converter.getMinSupportedAdDate();
+            LocalDate max = converter.getMaxSupportedAdDate();
+            BsDate previous = null;
+
+            while (!ad.isAfter(max)) {
+                BsDate bs = converter.toBs(ad);
+                assertEquals(ad, converter.toAd(bs), "Round trip failed for " + ad);
+                if (previous != null) {
+                    boolean nextDay = bs.year() == previous.year() && bs.month() == previous.month()
+                            && bs.day() == previous.day() + 1;
+                    boolean nextMonth = bs.day() == 1 && (bs.month().getValue() == previous.month().getValue() + 1
+                            || (bs.month() == BsMonth.BAISAKH && bs.year() == previous.year() + 1));
+                    assertTrue(nextDay || nextMonth, "Non-consecutive BS dates at " + ad);
+                }
+                previous = bs;
+                ad = ad.plusDays(1);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Primitive (Packed) API")
+    class PackedApiTests {
+
+        @Test
+        @DisplayName("toBsPacked and toAdEpochDay agree with the object API")
+        void testPackedMatchesObjectApi() {
+            LocalDate ad = LocalDate.of(2024, 4, 13);
+            int packed = converter.toBsPacked(ad.toEpochDay());
+
+            assertEquals(2081, PackedBsDate.year(packed));
+            assertEquals(1, PackedBsDate.month(packed));
+            assertEquals(1, PackedBsDate.day(packed));
+            assertEquals(converter.toBs(ad), PackedBsDate.toBsDate(packed));
+            assertEquals(ad.toEpochDay(), converter.toAdEpochDay(2081, 1, 1));
+        }
+
+        @Test
+        @DisplayName("toBs returns the same canonical instance for the same day")
+        void testCanonicalInstances() {
+            LocalDate ad = LocalDate.of(2015, 4, 25);
+            assertSame(converter.toBs(ad), converter.toBs(LocalDate.of(2015, 4, 25)));
+        }
+
+        @Test
+        @DisplayName("Packed API rejects unsupported and invalid input")
+        void testPackedErrors() {
+            long tooEarly = LocalDate.of(1943, 4, 13).toEpochDay();
+            assertEquals(NepaliCalendarException.ErrorCode.OUT_OF_RANGE,
+                    assertThrows(NepaliCalendarException.class, () -> converter.toBsPacked(tooEarly)).getErrorCode());
+            assertEquals(NepaliCalendarException.ErrorCode.OUT_OF_RANGE,
+                    assertThrows(NepaliCalendarException.class, () -> converter.toAdEpochDay(1999, 1, 1)).getErrorCode());
+            assertEquals(NepaliCalendarException.ErrorCode.INVALID_BS_DATE,
+                    assertThrows(NepaliCalendarException.class, () -> converter.toAdEpochDay(2081, 13, 1)).getErrorCode());
+            assertEquals(NepaliCalendarException.ErrorCode.INVALID_BS_DATE,
+                    assertThrows(NepaliCalendarException.class, () -> converter.toAdEpochDay(2081, 1, 0)).getErrorCode());
+        }
+    }
+
+    @Nested
+    @DisplayName("Bulk Conversion")
+    class BulkTests {
+
+        @Test
+        @DisplayName("Bulk AD to BS flags unsupported elements instead of throwing")
+        void testBulkToBsWithErrors() {
+            long[] epochDays = {
+                    LocalDate.of(2024, 4, 13).toEpochDay(),
+                    LocalDate.of(1900, 1, 1).toEpochDay(),
+                    LocalDate.of(2015, 4, 25).toEpochDay()
+            };
+            int[] years = new int[3], months = new int[3], days = new int[3];
+            boolean[] errors = new boolean[3];
+
+            assertEquals(1, converter.toBs(epochDays, years, months, days, errors));
+            assertArrayEquals(new boolean[]{false, true, false}, errors);
+            assertArrayEquals(new int[]{2081, 0, 2072}, years);
+            assertArrayEquals(new int[]{1, 0, 1}, months);
+            assertArrayEquals(new int[]{1, 0, 12}, days);
+        }
+
+        @Test
+        @DisplayName("Bulk LocalDate input treats null as an error")
+        void testBulkLocalDates() {
+            LocalDate[] adDates = {LocalDate.of(2024, 4, 13), null};
+            int[] years = new int[2], months = new int[2], days = new int[2];
+            boolean[] errors = new boolean[2];
+
+            assertEquals(1, converter.toBs(adDates, years, months, days, errors));
+            assertFalse(errors[0]);
+            assertTrue(errors[1]);
+        }
+
+        @Test
+        @DisplayName("Parallel bulk conversion matches scalar conversion over the full range")
+        void testParallelRoundTrip() {
+            long min = converter.getMinSupportedAdDate().toEpochDay() - 10;
+            long max = converter.getMaxSupportedAdDate().toEpochDay() + 10;
+            int n = (int) (max - min + 1);
+            long[] epochDays = new long[n];
+            for (int i = 0; i < n; i++) {
+                epochDays[i] = min + i;
+            }
+            int[] years = new int[n], months = new int[n], days = new int[n];
+            boolean[] errors = new boolean[n];
+
+            assertEquals(20, converter.toBsParallel(epochDays, years, months, days, errors));
+
+            long[] back = new long[n];
+            boolean[] backErrors = new boolean[n];
+            assertEquals(20, converter.toAdParallel(years, months, days, back, backErrors));
+            for (int i = 0; i < n; i++) {
+                assertEquals(errors[i], backErrors[i]);
+                if (!errors[i]) {
+                    assertEquals(epochDays[i], back[i]);
+                    assertEquals(PackedBsDate.of(years[i], months[i], days[i]), converter.toBsPacked(epochDays[i]));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Bulk BS to AD flags invalid dates")
+        void testBulkToAdWithErrors() {
+            int[] years = {2081, 2081, 1999};
+            int[] months = {1, 1, 1};
+            int[] days = {1, 32, 1};
+            long[] epochDays = new long[3];
+            boolean[] errors = new boolean[3];
+
+            assertEquals(2, converter.toAd(years, months, days, epochDays, errors));
+            assertArrayEquals(new boolean[]{false, true, true}, errors);
+            assertEquals(LocalDate.of(2024, 4, 13).toEpochDay(), epochDays[0]);
+        }
+
+        @Test
+        @DisplayName("Bulk conversion rejects output arrays that are too short")
+        void testShortOutputArrays() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> converter.toBs(new long[2], new int[2], new int[1], new int[2], new boolean[2]));
+        }
+    }
+
     @Nested
     @DisplayName("Exception and Error Handling")
     class ExceptionTests {
@@ -293,4 +446,131 @@ class NepaliDateConverterTest {
             assertEquals(NepaliCalendarException.ErrorCode.INVALID_BS_DATE, ex.getErrorCode());
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Non-throwing API")
+    class TryApiTests {
+
+        @Test
+        @DisplayName("tryToBs and tryToAd return values or the error code the throwing API would report")
+        void testResults() {
+            ConversionResult<BsDate> bs = converter.tryToBs(LocalDate.of(2024, 4, 13));
+            assertTrue(bs.isSuccess());
+            assertSame(converter.toBs(LocalDate.of(2024, 4, 13)), bs.get());
+
+            ConversionResult<BsDate> outOfRange = converter.tryToBs(LocalDate.of(1900, 1, 1));
+            assertFalse(outOfRange.isSuccess());
+            assertEquals(NepaliCalendarException.ErrorCode.OUT_OF_RANGE, outOfRange.getErrorCode());
+            assertTrue(outOfRange.toOptional().isEmpty());
+            assertNull(outOfRange.orElse(null));
+            assertEquals(NepaliCalendarException.ErrorCode.OUT_OF_RANGE,
+                    assertThrows(NepaliCalendarException.class, outOfRange::get).getErrorCode());
+
+            assertEquals(LocalDate.of(2024, 4, 13), converter.tryToAd(new BsDate(2081, BsMonth.BAISAKH, 1)).get());
+            assertEquals(NepaliCalendarException.ErrorCode.INVALID_BS_DATE,
+                    converter.tryToAd(new BsDate(2081, BsMonth.POUSH, 32)).getErrorCode());
+            assertEquals(NepaliCalendarException.ErrorCode.OUT_OF_RANGE,
+                    converter.tryToAd(new BsDate(2200, BsMonth.BAISAKH, 1)).getErrorCode());
+        }
+
+        @Test
+        @DisplayName("Packed variants return sentinels and validity checks agree with the throwing API")
+        void testSentinelsAndValidation() {
+            long epochDay = LocalDate.of(2024, 4, 13).toEpochDay();
+            assertEquals(converter.toBsPacked(epochDay), converter.tryToBsPacked(epochDay));
+            assertEquals(PackedBsDate.INVALID, converter.tryToBsPacked(LocalDate.of(1900, 1, 1).toEpochDay()));
+            assertEquals(epochDay, converter.tryToAdEpochDay(2081, 1, 1));
+            assertEquals(NepaliDateConverter.INVALID_EPOCH_DAY, converter.tryToAdEpochDay(2081, 13, 1));
+
+            assertTrue(converter.isSupported(converter.getMinSupportedAdDate()));
+            assertFalse(converter.isSupported(converter.getMinSupportedAdDate().minusDays(1)));
+            assertTrue(converter.isValid(new BsDate(2081, BsMonth.BAISAKH, 31)));
+            assertFalse(converter.isValid(new BsDate(2081, BsMonth.BAISAKH, 32)));
+            assertFalse(converter.isValid(2081, 0, 1));
+        }
+
+        @Test
+        @DisplayName("Exceptions format their message lazily and can skip the stack trace")
+        void testCheapExceptions() {
+            NepaliCalendarException ex = assertThrows(NepaliCalendarException.class,
+                    () -> converter.toAd(new BsDate(2081, BsMonth.POUSH, 32)));
+            assertEquals("Invalid day 32 for month Poush", ex.getMessage());
+            assertTrue(ex.getStackTrace().length > 0);
+
+            NepaliCalendarException.setStackTracesEnabled(false);
+            try {
+                NepaliCalendarException stackless = assertThrows(NepaliCalendarException.class,
+                        () -> converter.toBsPacked(-100_000));
+                assertEquals(0, stackless.getStackTrace().length);
+                assertEquals("AD epoch day -100000 is outside the supported B.S. range.", stackless.getMessage());
+                assertTrue(new NepaliCalendarException("x", NepaliCalendarException.ErrorCode.DATA_LOAD_ERROR)
+                        .getStackTrace().length > 0);
+            } finally {
+                NepaliCalendarException.setStackTracesEnabled(true);
+            }
+        }
+    }
+
+    @Nested
+    class InstantTests {
+
+        private final ZoneId kathmandu = ZoneId.of("Asia/Kathmandu");
+
+        @Test
+        @DisplayName("Epoch milliseconds and instants match the Asia/Kathmandu zone rules")
+        void testMatchesZoneRules() {
+            long min = converter.getMinSupportedAdDate().atStartOfDay(kathmandu).toInstant().toEpochMilli();
+            long max = converter.getMaxSupportedAdDate().plusDays(1).atStartOfDay(kathmandu).toInstant().toEpochMilli();
+            Random random = new Random(42);
+            for (int i = 0; i < 100_000; i++) {
+                long epochMilli = min + (long) (random.nextDouble() * (max - min));
+                Instant instant = Instant.ofEpochMilli(epochMilli);
+                BsDate expected = converter.toBs(LocalDate.ofInstant(instant, kathmandu));
+
+                assertSame(expected, converter.toBsFromEpochMilli(epochMilli));
+                assertSame(expected, converter.toBs(instant));
+                assertEquals(PackedBsDate.of(expected), converter.toBsPackedFromEpochMilli(epochMilli));
+                assertEquals(kathmandu.getRules().getOffset(instant), NepalTime.offsetAt(epochMilli));
+            }
+        }
+
+        @ParameterizedTest(name = "{0} is {1} in Nepal")
+        @CsvSource({
+                "1985-12-31T18:29:59.999Z, 1985-12-31",
+                "1985-12-31T18:30:00Z,     1986-01-01",
+                "2024-04-12T18:14:59.999Z, 2024-04-12",
+                "2024-04-12T18:15:00Z,     2024-04-13",
+                "1969-12-31T18:29:59Z,     1969-12-31",
+                "1969-12-31T18:30:00Z,     1970-01-01"
+        })
+        void testDayBoundaries(String instant, String localDate) {
+            Instant at = Instant.parse(instant);
+            assertEquals(LocalDate.parse(localDate).toEpochDay(), NepalTime.epochDay(at.toEpochMilli()));
+            assertEquals(LocalDate.parse(localDate).toEpochDay(), NepalTime.epochDay(at));
+            assertEquals(converter.toBs(LocalDate.parse(localDate)), converter.toBs(at));
+        }
+
+        @Test
+        @DisplayName("Batch conversion flags instants outside the supported range")
+        void testBatch() {
+            long[] epochMillis = {
+                    Instant.parse("2024-04-12T18:15:00Z").toEpochMilli(),
+                    Instant.parse("1900-01-01T00:00:00Z").toEpochMilli()
+            };
+            int[] years = new int[2];
+            int[] months = new int[2];
+            int[] days = new int[2];
+            boolean[] errors = new boolean[2];
+
+            assertEquals(1, converter.toBsFromEpochMilli(epochMillis, years, months, days, errors));
+            assertEquals(2081, years[0]);
+            assertEquals(1, months[0]);
+            assertEquals(1, days[0]);
+            assertArrayEquals(new boolean[]{false, true}, errors);
+            assertEquals(1, converter.toBsFromEpochMilliParallel(epochMillis, new int[2], new int[2], new int[2],
+                    new boolean[2]));
+            assertThrows(NepaliCalendarException.class, () -> converter.toBsFromEpochMilli(epochMillis[1]));
+            assertThrows(NepaliCalendarException.class, () -> converter.toBs(Instant.ofEpochMilli(epochMillis[1])));
+        }
+    }
+}
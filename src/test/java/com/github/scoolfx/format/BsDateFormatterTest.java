@@ -0,0 +1,107 @@
+package com.github.scoolfx.format;
+
+import com.github.scoolfx.exception.NepaliCalendarException;
+import com.github.scoolfx.model.BsDate;
+import com.github.scoolfx.model.BsMonth;
+import com.github.scoolfx.model.PackedBsDate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BsDateFormatterTest {
+
+    private static final BsDate DATE = new BsDate(2081, BsMonth.SHRAWAN, 5);
+
+    @ParameterizedTest(name = "{0} -> {1}")
+    @CsvSource(delimiter = '|', value = {
+            "yyyy-MM-dd        | 2081-04-05",
+            "dd/MM/yy          | 05/04/81",
+            "d MMMM yyyy       | 5 Shrawan 2081",
+            "yyyy.M.d          | 2081.4.5",
+            "'Day' d 'of' MMM  | Day 5 of Shrawan",
+            "yyyyMMdd          | 20810405"
+    })
+    void testFormat(String pattern, String expected) {
+        BsDateFormatter formatter = BsDateFormatter.ofPattern(pattern);
+        assertEquals(expected, formatter.format(DATE));
+        assertEquals(expected, formatter.formatPacked(PackedBsDate.of(DATE)));
+
+        byte[] buffer = new byte[formatter.maxEncodedLength() + 2];
+        int end = formatter.formatTo(DATE, buffer, 2);
+        assertEquals(expected, new String(buffer, 2, end - 2, StandardCharsets.UTF_8));
+        char[] chars = new char[formatter.maxLength() + 1];
+        int charEnd = formatter.formatTo(DATE, chars, 1);
+        assertEquals(expected, new String(chars, 1, charEnd - 1));
+
+        if (pattern.contains("yy")) {
+            assertEquals(DATE, formatter.parse(expected));
+            assertEquals(PackedBsDate.of(DATE), formatter.parsePacked(buffer, 2, end));
+            assertEquals(PackedBsDate.of(DATE), formatter.parsePacked(chars, 1, charEnd));
+        }
+    }
+
+    @Test
+    @DisplayName("Devanagari digits are written as chars and UTF-8 and parse back")
+    void testDevanagariDigits() {
+        BsDateFormatter formatter = BsDateFormatter.ISO.withDevanagariDigits();
+        String text = formatter.format(DATE);
+
+        assertEquals("२०८१-०४-०५", text);
+        byte[] bytes = new byte[formatter.maxEncodedLength()];
+        int end = formatter.formatTo(DATE, bytes, 0);
+        assertEquals(text, new String(bytes, 0, end, StandardCharsets.UTF_8));
+        assertEquals(DATE, formatter.parse(text));
+        assertEquals(PackedBsDate.of(DATE), formatter.parsePacked(bytes, 0, end));
+        char[] chars = new char[formatter.maxLength()];
+        assertEquals(text, new String(chars, 0, formatter.formatTo(DATE, chars, 0)));
+        assertEquals(DATE, BsDateFormatter.ISO.parse(text));
+        assertEquals("2081-04-05", formatter.withAsciiDigits().format(DATE));
+        assertSame(BsDateFormatter.ISO, BsDateFormatter.ISO.withAsciiDigits());
+    }
+
+    @Test
+    @DisplayName("Parsing handles sub-ranges, two-digit years, month names and quotes")
+    void testParseVariants() {
+        assertEquals(PackedBsDate.of(2081, 4, 5), BsDateFormatter.ISO.parsePacked("[2081-04-05]", 1, 11));
+        assertEquals(PackedBsDate.of(2081, 4, 5), BsDateFormatter.ISO.tryParsePacked("[2081-04-05]", 1, 11));
+        assertEquals(PackedBsDate.of(2081, 4, 5), BsDateFormatter.ofPattern("dd/MM/yy").parsePacked("05/04/81"));
+        assertEquals(new BsDate(2081, BsMonth.CHAITRA, 30), BsDateFormatter.ofPattern("d MMM yyyy").parse("30 chaitra 2081"));
+        assertEquals(PackedBsDate.of(2081, 12, 3), BsDateFormatter.ofPattern("d-M-yyyy").parsePacked("3-12-2081"));
+        assertEquals("2081 o'clock", BsDateFormatter.ofPattern("yyyy 'o''clock'").format(DATE));
+        assertEquals("'2081'", BsDateFormatter.ofPattern("''yyyy''").format(DATE));
+    }
+
+    @Test
+    @DisplayName("BsDate.format keeps its yyyy-MM-dd output")
+    void testBsDateFormat() {
+        assertEquals("2081-04-05", DATE.format());
+        assertEquals("0999-12-32", new BsDate(999, BsMonth.CHAITRA, 32).format());
+    }
+
+    @ParameterizedTest(name = "''{0}'' is rejected")
+    @CsvSource({"2081-4-05", "2081-04-5", "2081-13-01", "2081-04-00", "2081-04-33", "2081-04-05x", "2081/04/05", "''"})
+    void testParseErrors(String text) {
+        NepaliCalendarException e = assertThrows(NepaliCalendarException.class,
+                () -> BsDateFormatter.ISO.parsePacked(text));
+        assertEquals(NepaliCalendarException.ErrorCode.INVALID_BS_DATE, e.getErrorCode());
+        assertEquals(PackedBsDate.INVALID, BsDateFormatter.ISO.tryParsePacked(text, 0, text.length()));
+        assertEquals(PackedBsDate.INVALID, BsDateFormatter.ISO.tryParsePacked(text.toCharArray(), 0, text.length()));
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        assertEquals(PackedBsDate.INVALID, BsDateFormatter.ISO.tryParsePacked(bytes, 0, bytes.length));
+    }
+
+    @Test
+    @DisplayName("Invalid patterns are rejected")
+    void testInvalidPatterns() {
+        assertThrows(IllegalArgumentException.class, () -> BsDateFormatter.ofPattern("yyy-MM-dd"));
+        assertThrows(IllegalArgumentException.class, () -> BsDateFormatter.ofPattern("yyyy-MM-ddd"));
+        assertThrows(IllegalArgumentException.class, () -> BsDateFormatter.ofPattern("yyyy-QQ"));
+        assertThrows(IllegalArgumentException.class, () -> BsDateFormatter.ofPattern("yyyy 'open"));
+        assertThrows(IllegalArgumentException.class, () -> BsDateFormatter.ofPattern(""));
+    }
+}
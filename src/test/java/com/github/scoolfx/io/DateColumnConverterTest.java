@@ -0,0 +1,141 @@
+package com.github.scoolfx.io;
+
+import com.github.scoolfx.converter.NepaliDateConverter;
+import com.github.scoolfx.format.BsDateFormatter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DateColumnConverterTest {
+
+    private NepaliDateConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        converter = new NepaliDateConverter();
+    }
+
+    private String run(DateColumnConverter columnConverter, String input) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        columnConverter.convert(Channels.newChannel(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8))),
+                Channels.newChannel(out));
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("Inserts the BS date after the AD column and names it in the header")
+    void testCsvWithHeader() throws IOException {
+        var columnConverter = new DateColumnConverter(converter, 1, ',', true);
+        String result = run(columnConverter, "id,date,amount\n1,2024-04-13,10\n2,2015-04-25,20\n");
+        assertEquals("id,date,bs_date,amount\n1,2024-04-13,2081-01-01,10\n2,2015-04-25,2072-01-12,20\n", result);
+    }
+
+    @Test
+    @DisplayName("Leaves the BS field empty for invalid or unsupported dates")
+    void testInvalidDates() throws IOException {
+        var columnConverter = new DateColumnConverter(converter, 0, '\t', false);
+        String result = run(columnConverter, "1900-01-01\tx\n2024-02-30\ty\nnot-a-date\tz\n2024-04-13\tw");
+        assertEquals("1900-01-01\t\tx\n2024-02-30\t\ty\nnot-a-date\t\tz\n2024-04-13\t2081-01-01\tw", result);
+    }
+
+    @Test
+    @DisplayName("Handles quoted fields, CRLF line endings and short rows")
+    void testQuotesAndLineEndings() throws IOException {
+        var columnConverter = new DateColumnConverter(converter, 1, ',', false);
+        String result = run(columnConverter, "\"a,b\",\"2024-04-13\"\r\nshort\r\n");
+        assertEquals("\"a,b\",\"2024-04-13\",2081-01-01\r\nshort\r\n", result);
+    }
+
+    @Test
+    @DisplayName("Keeps quoted line breaks inside their row and copies empty lines through")
+    void testQuotedNewlinesAndEmptyLines() throws IOException {
+        var columnConverter = new DateColumnConverter(converter, 1, ',', true);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DateColumnConverter.Summary summary = columnConverter.convert(
+                Channels.newChannel(new ByteArrayInputStream(
+                        "note,date\n\"line 1\nline 2\",2024-04-13\n\n\r\nx,2015-04-25\n".getBytes(StandardCharsets.UTF_8))),
+                Channels.newChannel(out));
+        assertEquals("note,date,bs_date\n\"line 1\nline 2\",2024-04-13,2081-01-01\n\n\r\nx,2015-04-25,2072-01-12\n",
+                out.toString(StandardCharsets.UTF_8));
+        assertEquals(new DateColumnConverter.Summary(2, 0), summary);
+    }
+
+    @Test
+    @DisplayName("An unbalanced quote only spoils rows up to the maximum row length")
+    void testUnbalancedQuote() throws IOException {
+        var columnConverter = new DateColumnConverter(converter, 1, ',', false, BsDateFormatter.ISO, 32);
+        String input = "1,2024-04-13\n\"oops,2024-04-13\n3,2024-04-13\n4,2024-04-13 and a long tail\n5,2015-04-25\n";
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DateColumnConverter.Summary summary = columnConverter.convert(
+                Channels.newChannel(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8))),
+                Channels.newChannel(out));
+
+        assertEquals("1,2024-04-13,2081-01-01\n\"oops,2024-04-13\n3,2024-04-13\n4,2024-04-13 and a long tail\n"
+                + "5,2015-04-25,2072-01-12\n", out.toString(StandardCharsets.UTF_8));
+        assertEquals(new DateColumnConverter.Summary(3, 1), summary);
+        assertThrows(IllegalArgumentException.class,
+                () -> new DateColumnConverter(converter, 1, ',', false, BsDateFormatter.ISO, 0));
+    }
+
+    @Test
+    @DisplayName("Writes BS dates with a custom formatter")
+    void testCustomFormatter() throws IOException {
+        var columnConverter = new DateColumnConverter(converter, 0, ',', false,
+                BsDateFormatter.ofPattern("d MMMM yyyy").withDevanagariDigits());
+        String result = run(columnConverter, "2024-04-13,x\n1900-01-01,y\n");
+        assertEquals("2024-04-13,१ Baisakh २०८१,x\n1900-01-01,,y\n", result);
+    }
+
+    @Test
+    @DisplayName("Produces the same result as the object API across buffer boundaries")
+    void testLargeInputMatchesObjectApi() throws IOException {
+        StringBuilder input = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        LocalDate min = converter.getMinSupportedAdDate();
+        for (int i = 0; i < 200_000; i++) {
+            LocalDate ad = min.plusDays(i % 31_000);
+            input.append(i).append(',').append(ad).append(",row\n");
+            expected.append(i).append(',').append(ad).append(',')
+                    .append(converter.toBs(ad).format()).append(",row\n");
+        }
+
+        var columnConverter = new DateColumnConverter(converter, 1, ',', false);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DateColumnConverter.Summary summary = columnConverter.convert(
+                Channels.newChannel(new ByteArrayInputStream(input.toString().getBytes(StandardCharsets.UTF_8))),
+                Channels.newChannel(out));
+
+        assertEquals(new DateColumnConverter.Summary(200_000, 0), summary);
+        assertEquals(expected.toString(), out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("CLI converts a file and reports invalid arguments")
+    void testCli(@TempDir Path dir) throws IOException {
+        Path input = dir.resolve("in.tsv");
+        Path output = dir.resolve("out.tsv");
+        Files.writeString(input, "date\n2024-04-13\n");
+
+        assertEquals(0, DateColumnConverterCli.run(new String[]{
+                input.toString(), output.toString(), "0", "--delimiter=tab", "--header"}));
+        assertEquals("date\tbs_date\n2024-04-13\t2081-01-01\n", Files.readString(output));
+        assertEquals(0, DateColumnConverterCli.run(new String[]{
+                input.toString(), output.toString(), "0", "--header", "--format=dd/MM/yyyy"}));
+        assertEquals("date,bs_date\n2024-04-13,01/01/2081\n", Files.readString(output));
+        assertEquals(2, DateColumnConverterCli.run(new String[]{input.toString(), output.toString()}));
+        assertEquals(2, DateColumnConverterCli.run(new String[]{
+                input.toString(), output.toString(), "0", "--format=yyyy-QQ"}));
+    }
+}
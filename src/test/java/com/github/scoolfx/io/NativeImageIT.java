@@ -0,0 +1,70 @@
+package com.github.scoolfx.io;
+
+import com.github.scoolfx.converter.NepaliDateConverter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the native executable built by {@code mvn -Pnative verify}, which sets {@code native.image}
+ * to its path. The calendar tables are built into the image heap, so a conversion run should cost
+ * little more than starting the process. The limit on the best of several runs is generous, so that a
+ * loaded build machine does not fail the test but reading and decoding the data at startup still would.
+ */
+@EnabledIfSystemProperty(named = "native.image", matches = ".+")
+class NativeImageIT {
+
+    private static final int RUNS = 5;
+    private static final long MAX_STARTUP_MILLIS = 300;
+
+    private static int exec(Path... args) throws IOException, InterruptedException {
+        String[] command = new String[args.length + 2];
+        command[0] = System.getProperty("native.image");
+        for (int i = 0; i < args.length; i++) {
+            command[i + 1] = args[i].toString();
+        }
+        command[command.length - 1] = "0";
+        Process process = new ProcessBuilder(command).inheritIO().start();
+        assertTrue(process.waitFor(30, TimeUnit.SECONDS), "The native executable did not exit");
+        return process.exitValue();
+    }
+
+    @Test
+    @DisplayName("The native executable converts like the JVM with near-zero startup cost")
+    void testNativeConversion(@TempDir Path dir) throws Exception {
+        NepaliDateConverter converter = new NepaliDateConverter();
+        LocalDate min = converter.getMinSupportedAdDate();
+        LocalDate max = converter.getMaxSupportedAdDate();
+        StringBuilder input = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        for (LocalDate date = min; !date.isAfter(max); date = date.plusDays(97)) {
+            input.append(date).append('\n');
+            expected.append(date).append(',').append(converter.toBs(date).format()).append('\n');
+        }
+        input.append(max).append('\n');
+        expected.append(max).append(',').append(converter.toBs(max).format()).append('\n');
+
+        Path in = Files.writeString(dir.resolve("in.csv"), input);
+        Path out = dir.resolve("out.csv");
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            assertEquals(0, exec(in, out));
+            best = Math.min(best, System.nanoTime() - start);
+            assertEquals(expected.toString(), Files.readString(out, StandardCharsets.UTF_8));
+        }
+        long bestMillis = TimeUnit.NANOSECONDS.toMillis(best);
+        assertTrue(bestMillis < MAX_STARTUP_MILLIS,
+                "Best of " + RUNS + " native runs took " + bestMillis + " ms, limit " + MAX_STARTUP_MILLIS + " ms");
+    }
+}
@@ -0,0 +1,96 @@
+package com.github.scoolfx.jackson;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.github.scoolfx.format.BsDateFormatter;
+import com.github.scoolfx.model.BsDate;
+import com.github.scoolfx.model.BsMonth;
+import com.github.scoolfx.model.PackedBsDate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BsDateModuleTest {
+
+    private static final BsDate DATE = new BsDate(2081, BsMonth.BAISAKH, 1);
+
+    record Payload(String id, BsDate date) {
+    }
+
+    record Annotated(@JsonFormat(shape = JsonFormat.Shape.NUMBER) BsDate packed,
+                     @JsonFormat(pattern = "dd/MM/yyyy") BsDate local,
+                     BsDate plain) {
+    }
+
+    @Test
+    @DisplayName("Dates round-trip as ISO strings by default")
+    void testStringShape() throws JsonProcessingException {
+        ObjectMapper mapper = new ObjectMapper().registerModule(new BsDateModule());
+
+        String json = mapper.writeValueAsString(new Payload("a", DATE));
+        assertEquals("{\"id\":\"a\",\"date\":\"2081-01-01\"}", json);
+        assertEquals(new Payload("a", DATE), mapper.readValue(json, Payload.class));
+        assertEquals(DATE, mapper.readValue("136380673", BsDate.class));
+        assertEquals(DATE, mapper.readValue("\"२०८१-०१-०१\"", BsDate.class));
+        assertNull(mapper.readValue("{\"id\":\"a\",\"date\":null}", Payload.class).date());
+    }
+
+    @Test
+    @DisplayName("Packed and custom-format modules write their own shape and read both")
+    void testConfiguredShapes() throws JsonProcessingException {
+        ObjectMapper packed = new ObjectMapper().registerModule(new BsDateModule(BsDateModule.Shape.PACKED));
+        assertEquals("[136380673]", packed.writeValueAsString(List.of(DATE)));
+        assertEquals(DATE, packed.readValue("\"2081-01-01\"", BsDate.class));
+
+        ObjectMapper devanagari = new ObjectMapper()
+                .registerModule(new BsDateModule(BsDateFormatter.ofPattern("d MMMM yyyy").withDevanagariDigits()));
+        String json = devanagari.writeValueAsString(DATE);
+        assertEquals("\"१ Baisakh २०८१\"", json);
+        assertEquals(DATE, devanagari.readValue(json, BsDate.class));
+    }
+
+    @Test
+    @DisplayName("@JsonFormat overrides the module per property")
+    void testPropertyOverrides() throws JsonProcessingException {
+        ObjectMapper mapper = new ObjectMapper().registerModule(new BsDateModule());
+        Annotated value = new Annotated(DATE, DATE, DATE);
+
+        String json = mapper.writeValueAsString(value);
+        assertEquals("{\"packed\":136380673,\"local\":\"01/01/2081\",\"plain\":\"2081-01-01\"}", json);
+        assertEquals(value, mapper.readValue(json, Annotated.class));
+    }
+
+    @Test
+    @DisplayName("Years without four digits are written in full")
+    void testYearsOutsideFourDigits() throws JsonProcessingException {
+        ObjectMapper mapper = new ObjectMapper().registerModule(new BsDateModule());
+        BsDate longYear = new BsDate(12081, BsMonth.BAISAKH, 1);
+        BsDate shortYear = new BsDate(981, BsMonth.CHAITRA, 30);
+
+        assertEquals("\"" + longYear.format() + "\"", mapper.writeValueAsString(longYear));
+        assertEquals("\"" + shortYear.format() + "\"", mapper.writeValueAsString(shortYear));
+        assertEquals("[\"12081-01-01\",\"2081-01-01\"]", mapper.writeValueAsString(List.of(longYear, DATE)));
+    }
+
+    @Test
+    @DisplayName("Malformed values are reported as Jackson input errors")
+    void testInvalidInput() {
+        ObjectMapper mapper = new ObjectMapper().registerModule(new BsDateModule());
+
+        InvalidFormatException e = assertThrows(InvalidFormatException.class,
+                () -> mapper.readValue("\"2081-13-01\"", BsDate.class));
+        assertEquals("2081-13-01", e.getValue());
+        assertThrows(InvalidFormatException.class, () -> mapper.readValue("2081", BsDate.class));
+        assertThrows(InvalidFormatException.class, () -> mapper.readValue("-136380673", BsDate.class));
+        assertThrows(InvalidFormatException.class, () -> mapper.readValue(
+                String.valueOf(PackedBsDate.of(12081, 1, 1)), BsDate.class));
+        assertThrows(MismatchedInputException.class, () -> mapper.readValue("true", BsDate.class));
+        assertThrows(IllegalArgumentException.class, () -> new BsDateModule((BsDateFormatter) null));
+    }
+}
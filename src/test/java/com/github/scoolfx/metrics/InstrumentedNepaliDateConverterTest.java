@@ -0,0 +1,136 @@
+package com.github.scoolfx.metrics;
+
+import com.github.scoolfx.converter.CalendarData;
+import com.github.scoolfx.converter.CalendarDataSource;
+import com.github.scoolfx.exception.NepaliCalendarException;
+import com.github.scoolfx.model.BsDate;
+import com.github.scoolfx.model.BsMonth;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InstrumentedNepaliDateConverterTest {
+
+    private ConversionMetrics metrics;
+    private InstrumentedNepaliDateConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new ConversionMetrics();
+        converter = new InstrumentedNepaliDateConverter(metrics, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        DataLoadMetrics.setSink(null);
+    }
+
+    @Test
+    @DisplayName("Counts conversions and failures per operation and error code")
+    void testCounters() {
+        converter.toBs(LocalDate.of(2024, 4, 13));
+        converter.toAd(new BsDate(2081, BsMonth.BAISAKH, 1));
+        converter.toBsPacked(LocalDate.of(2024, 4, 13).toEpochDay());
+        assertThrows(NepaliCalendarException.class, () -> converter.toBs(LocalDate.of(1900, 1, 1)));
+        assertThrows(NepaliCalendarException.class, () -> converter.toAd(new BsDate(2081, BsMonth.POUSH, 32)));
+
+        assertEquals(2, metrics.getConversions(Operation.TO_BS));
+        assertEquals(2, metrics.getConversions(Operation.TO_AD));
+        assertEquals(0, metrics.getConversions(Operation.TO_AD_EPOCH_DAY));
+        assertEquals(1, metrics.getConversions(Operation.TO_BS_PACKED));
+        assertEquals(1, metrics.getFailures(Operation.TO_BS, NepaliCalendarException.ErrorCode.OUT_OF_RANGE));
+        assertEquals(1, metrics.getFailures(NepaliCalendarException.ErrorCode.INVALID_BS_DATE));
+        assertEquals(2, metrics.getLatency(Operation.TO_BS).count());
+    }
+
+    @Test
+    @DisplayName("Bulk calls report their size and failures")
+    void testBatches() {
+        long[] epochDays = {LocalDate.of(2024, 4, 13).toEpochDay(), LocalDate.of(1900, 1, 1).toEpochDay()};
+        int[] years = new int[2];
+        int[] months = new int[2];
+        int[] days = new int[2];
+
+        assertEquals(1, converter.toBs(epochDays, years, months, days, new boolean[2]));
+        assertEquals(1, converter.toAdParallel(years, months, days, new long[2], new boolean[2]));
+
+        assertEquals(2, metrics.getBatchElements(Operation.BATCH_TO_BS));
+        assertEquals(1, metrics.getBatchFailures(Operation.BATCH_TO_BS));
+        assertEquals(1, metrics.getBatchFailures(Operation.BATCH_TO_AD));
+        assertEquals(0, metrics.getConversions(Operation.TO_BS));
+    }
+
+    @Test
+    @DisplayName("Latency snapshots bound percentiles by power-of-two buckets")
+    void testLatencySnapshot() {
+        metrics.recordLatency(Operation.TO_BS, 10);
+        metrics.recordLatency(Operation.TO_BS, 20);
+        metrics.recordLatency(Operation.TO_BS, 1000);
+        ConversionMetrics.LatencySnapshot snapshot = metrics.getLatency(Operation.TO_BS);
+
+        assertEquals(3, snapshot.count());
+        assertEquals(15, snapshot.percentile(0));
+        assertEquals(31, snapshot.percentile(50));
+        assertEquals(1023, snapshot.percentile(100));
+        assertEquals(1030 / 3.0, snapshot.mean(), 1e-9);
+        metrics.reset();
+        assertEquals(0, metrics.getLatency(Operation.TO_BS).count());
+    }
+
+    @Test
+    @DisplayName("Data loads are reported to the installed sink")
+    void testDataLoadSink() {
+        DataLoadMetrics.setSink(metrics);
+
+        CalendarData.load(CalendarDataSource.classpath());
+        assertThrows(NepaliCalendarException.class, () -> CalendarData.load(CalendarDataSource.bytes(new byte[]{1})));
+
+        assertEquals(1, metrics.getDataLoads());
+        assertEquals(1, metrics.getDataLoadFailures());
+        assertTrue(metrics.getLastDataLoadNanos() > 0);
+    }
+
+    @Test
+    @DisplayName("Flight Recorder receives data load and slow conversion events")
+    void testJfrEvents(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("com.github.scoolfx.CalendarDataLoad");
+            recording.enable("com.github.scoolfx.SlowConversion").withThreshold(Duration.ZERO);
+            recording.start();
+            CalendarData.load(CalendarDataSource.classpath());
+            converter.toBs(LocalDate.of(2024, 4, 13));
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        RecordedEvent load = events.stream()
+                .filter(e -> e.getEventType().getName().equals("com.github.scoolfx.CalendarDataLoad"))
+                .findFirst().orElseThrow();
+        assertEquals("classpath", load.getString("source"));
+        assertEquals(2085, load.getInt("maxYear"));
+        assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().equals("com.github.scoolfx.SlowConversion")
+                && e.getString("operation").equals("TO_BS")));
+    }
+
+    @Test
+    @DisplayName("Invalid arguments are rejected")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new InstrumentedNepaliDateConverter(null));
+        assertThrows(IllegalArgumentException.class, () -> new InstrumentedNepaliDateConverter(metrics, 3));
+    }
+}